@@ -23,6 +23,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static team02.project.cli.CLIConstants.*;
 
@@ -30,11 +34,13 @@ import static team02.project.cli.CLIConstants.*;
 public class App extends Application{
 
     private static int EXIT_FAILURE = 1;
+    private static long SHUTDOWN_WAIT_SECONDS = 10;
 
     private static CLIConfig config;
     private static AlgorithmMonitor monitor;
     private static Path inputFile;
     private static Path outputFile;
+    private static CountDownLatch outputWritten = new CountDownLatch(1);
 
     public static void main(String[] args)  {
         config = getOptions(args);
@@ -51,6 +57,12 @@ public class App extends Application{
             System.out.println(OUTPUT_FILE_ALREADY_EXISTS_WARNING);
         }
 
+        if(config.isResume() && !Files.exists(Paths.get(config.checkpointFile()))) {
+            System.out.println(CHECKPOINT_FILE_NOT_FOUND_ERROR);
+            System.exit(EXIT_FAILURE);
+            return;
+        }
+
         if (config.isVisualize()) {
             // run with visualization
             launch();
@@ -67,10 +79,65 @@ public class App extends Application{
                 + config.numberOfScheduleProcessors() +
                 " processors on a graph of " + graph.getNodes().length + " nodes");
         SchedulingContext ctx = new SchedulingContext(graph, config.numberOfScheduleProcessors());
-        SchedulingAlgorithm algorithm = selectAlgorithm(config);
-        Schedule maybeOptimal =  algorithm.calculateOptimal(ctx);
-        writeOutput(outputFile, ctx, maybeOptimal);
+        if(config.gap() != NO_GAP) {
+            runBounded(ctx);
+            return;
+        }
+        if(config.isEstimate() && monitor == null) {
+            monitor = new AlgorithmMonitor(null, 0, 0, 0);
+        }
+        AnytimeSchedulingAlgorithm algorithm = selectAlgorithm(config);
+        if(algorithm instanceof DistributedBranchAndBound) {
+            System.out.println("Waiting for workers to connect on port " + config.coordinatorPort());
+        }
+
+        Deadline deadline = config.timeLimitSeconds() == NO_TIME_LIMIT
+                ? Deadline.none()
+                : Deadline.after(TimeUnit.SECONDS.toMillis(config.timeLimitSeconds()));
+
+        // on Ctrl+C, stop the search early and hold off exiting until the best schedule so far has been written
+        Thread stopSearch = new Thread(() -> {
+            deadline.expire();
+            try {
+                outputWritten.await(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Runtime.getRuntime().addShutdownHook(stopSearch);
+
+        Timer progressReporter = new Timer("progress-reporter", true);
+        if(config.isEstimate() && algorithm instanceof ProgressEstimator) {
+            long interval = TimeUnit.SECONDS.toMillis(ESTIMATE_INTERVAL_SECONDS);
+            progressReporter.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    System.out.println(ProgressEstimator.describe(monitor));
+                }
+            }, interval, interval);
+        }
+
+        SearchResult result = algorithm.calculate(ctx, deadline);
+        progressReporter.cancel();
+        if(!result.isOptimal()) {
+            System.out.println("Search stopped early, the schedule found is not proven to be optimal");
+        }
+        writeOutput(outputFile, ctx, result.getSchedule());
+        System.out.println("Schedule output successfully");
+        outputWritten.countDown();
+    }
+
+    /**
+     * Find a schedule within the gap the user allows, and print how far from optimal it can be at most
+     * @param ctx
+     */
+    private static void runBounded(SchedulingContext ctx) {
+        BoundedSearchResult result = new FocalAStarAlgorithm(new AOSolutionSpace(), config.gap()).calculateBounded(ctx);
+        System.out.println("No schedule can finish before " + result.getLowerBound() + ", so this one finishes at most "
+                + String.format("%.1f", (result.getSuboptimalityBound() - 1) * 100) + "% later than optimal");
+        writeOutput(outputFile, ctx, result.getSchedule());
         System.out.println("Schedule output successfully");
+        outputWritten.countDown();
     }
 
     /**
@@ -78,16 +145,44 @@ public class App extends Application{
      * @param config
      * @return
      */
-    private static SchedulingAlgorithm selectAlgorithm(CLIConfig config) {
+    private static AnytimeSchedulingAlgorithm selectAlgorithm(CLIConfig config) {
+        Checkpointer checkpointer = config.checkpointFile().equals(NO_CHECKPOINT_FILE)
+                ? null
+                : new Checkpointer(Paths.get(config.checkpointFile()), config.isResume());
+
         if(config.isVisualize()) {
-            return new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), monitor);
+            return estimated(new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), monitor, checkpointer));
+        } else if(config.coordinatorPort() != NOT_DISTRIBUTED) {
+            return new DistributedBranchAndBound(config.coordinatorPort());
+        } else if(config.beamWidth() != NO_BEAM_WIDTH) {
+            return new BeamSearchAlgorithm(new AOSolutionSpace(), config.beamWidth(), config.numberOfParallelCores());
+        } else if(config.isPortfolio()) {
+            return PortfolioAlgorithm.standard();
+        } else if(config.isHybrid()) {
+            return new HybridSearchAlgorithm(new AOSolutionSpace());
+        } else if(config.isDeterministic()) {
+            return estimated(new DeterministicParallelBranchAndBound(new AOSolutionSpace(),
+                    config.numberOfParallelCores(), monitor));
         } else if(config.numberOfParallelCores() == 1) {
-            return new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), null);
+            return estimated(new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), monitor, checkpointer));
         } else {
-            return new ParallelBranchAndBound(new AOSolutionSpace(), config.numberOfParallelCores());
+            Diversification diversification = config.seed() == NO_SEED
+                    ? null
+                    : new Diversification(config.seed(), config.restartBudget());
+            return estimated(new ParallelBranchAndBound(new AOSolutionSpace(), config.numberOfParallelCores(),
+                    checkpointer, new ThreadSearchExecutor("bnb-worker-"), diversification, monitor));
         }
     }
 
+    /**
+     * Estimate the progress of a depth-first search over the AO solution space, if there is a monitor to show it on
+     * @param search the search, which updates the monitor
+     * @return the search, estimating its progress if there is a monitor
+     */
+    private static AnytimeSchedulingAlgorithm estimated(AnytimeSchedulingAlgorithm search) {
+        return monitor == null ? search : new ProgressEstimator(search, new AOSolutionSpace(), monitor);
+    }
+
     private static CLIConfig getOptions(String[] args) {
         CLIConfig config;
         CLIParser parser = new CLIParser();
@@ -108,6 +203,7 @@ public class App extends Application{
             OutputSchedule.outputGraph(outputFile, ctx, maybeOptimal);
         } catch(IOException e) {
             System.out.println("Error outputting graph: " + e.getMessage());
+            outputWritten.countDown();
             System.exit(EXIT_FAILURE);
         }
     }
@@ -8,7 +8,7 @@ import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
 import java.util.Comparator;
 import java.util.PriorityQueue;
 
-public class AStarAlgorithm implements SchedulingAlgorithm {
+public class AStarAlgorithm implements AnytimeSchedulingAlgorithm {
     private static final int INITIAL_SIZE = 1000;
     private SolutionSpace solutionSpace;
 
@@ -17,22 +17,54 @@ public class AStarAlgorithm implements SchedulingAlgorithm {
     }
 
     @Override
-    public Schedule calculateOptimal(SchedulingContext ctx) {
-
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stop if the calling thread is interrupted
+        deadline = deadline.interruptible();
         PriorityQueue<PartialSolution> scheduleQueue = new PriorityQueue<>(INITIAL_SIZE,
                 Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
-        scheduleQueue.add(solutionSpace.getRoot(ctx));
+
+        // lowest estimate each state has been queued with, so that states reached again by a different path are
+        // only queued again if they improve on the estimate
+        StateTable queuedStates = solutionSpace.isTree() ? null : new StateTable(INITIAL_SIZE);
+
+        PartialSolution root = solutionSpace.getRoot(ctx);
+        if(queuedStates != null) {
+            queuedStates.putIfLower(root.getStateKey(), root.getEstimatedFinishTime());
+        }
+        scheduleQueue.add(root);
 
         while(!scheduleQueue.isEmpty()){
+            if(deadline.hasExpired()) {
+                return new SearchResult(incumbent.getSchedule(), false);
+            }
+
             PartialSolution s = scheduleQueue.poll();
-            if(s.isComplete()){
-                return s.makeComplete();
+            if(s.getEstimatedFinishTime() >= incumbent.getBound()) {
+                // nothing left in the queue can beat the incumbent
+                break;
+            }
+
+            // skip if the same state was queued again with a lower estimate; that copy is expanded instead
+            if(queuedStates != null && queuedStates.get(s.getStateKey()) < s.getEstimatedFinishTime()) {
+                continue;
             }
 
             // expand and compute costs
-            val children = s.expand();
-            scheduleQueue.addAll(children);
+            val children = s.expand(incumbent.getBound()); // branch and bound
+            for(val child : children) {
+                if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // a complete sibling has lowered the bound since
+                    continue;
+                }
+                if(child.isComplete()) {
+                    incumbent.offer(child);
+                } else if(queuedStates == null
+                        || queuedStates.putIfLower(child.getStateKey(), child.getEstimatedFinishTime())) {
+                    scheduleQueue.add(child);
+                }
+            }
         }
-        return null;
+
+        return new SearchResult(incumbent.getSchedule(), true);
     }
 }
\ No newline at end of file
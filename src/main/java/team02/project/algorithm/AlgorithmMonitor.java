@@ -4,12 +4,25 @@ import lombok.Data;
 
 @Data
 public class AlgorithmMonitor {
+    /**
+     * Value of {@link #estimatedRemainingMillis} when there is no estimate of the time left.
+     */
+    public static final long UNKNOWN_TIME = -1;
+
     Schedule currentBest;
     long allocationsExpanded;
     long orderingsExpanded;
     long completeSchedules;
     boolean isFinished = false;
 
+    /**
+     * Estimates of the progress of the search, published by a {@link ProgressEstimator}. The total is 0 until there
+     * is an estimate.
+     */
+    long estimatedTotalNodes;
+    double fractionComplete;
+    long estimatedRemainingMillis = UNKNOWN_TIME;
+
     public AlgorithmMonitor(Schedule currentBest, long allocationsExpanded, long orderingsExpanded, long completeSchedules) {
         this.currentBest = currentBest;
         this.allocationsExpanded = allocationsExpanded;
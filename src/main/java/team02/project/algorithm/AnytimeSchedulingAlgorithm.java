@@ -0,0 +1,38 @@
+package team02.project.algorithm;
+
+/**
+ * A {@link SchedulingAlgorithm} which can be stopped at any time, returning the best schedule it has found so far.
+ */
+public interface AnytimeSchedulingAlgorithm extends SchedulingAlgorithm {
+    /**
+     * Compute the optimal schedule, or the best schedule that can be found before the deadline expires.
+     * @param ctx The {@link SchedulingContext} of the algorithm
+     * @param deadline The deadline after which the search stops
+     * @param incumbent The best schedule known so far, which the search only looks to improve on. It may be shared
+     *                  with other searches running at the same time, in which case each one prunes using the schedules
+     *                  found by all of them.
+     * @return The best schedule found, and whether it is proven to be optimal
+     */
+    SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent);
+
+    /**
+     * Compute the optimal schedule, or the best schedule that can be found before the deadline expires, starting
+     * from a simple list schedule.
+     * @param ctx The {@link SchedulingContext} of the algorithm
+     * @param deadline The deadline after which the search stops
+     * @return The best schedule found, and whether it is proven to be optimal
+     */
+    default SearchResult calculate(SchedulingContext ctx, Deadline deadline) {
+        return calculate(ctx, deadline, new Incumbent(new TopologicalSortAlgorithm().calculateOptimal(ctx)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The search can be cancelled by interrupting the calling thread, in which case the best schedule found so far is
+     * returned, and the thread is left interrupted.
+     */
+    @Override
+    default Schedule calculateOptimal(SchedulingContext ctx) {
+        return calculate(ctx, Deadline.none().interruptible()).getSchedule();
+    }
+}
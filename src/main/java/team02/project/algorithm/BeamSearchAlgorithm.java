@@ -0,0 +1,176 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+import team02.project.algorithm.solnspace.StateKey;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Beam search. The search goes down the solution space one layer at a time, keeping only the partial solutions with
+ * the lowest estimates in each layer, up to the beam width. The rest are thrown away, so the time and memory taken
+ * grow linearly with the size of the graph and the width, at the cost of possibly missing the optimal schedule.
+ * A wider beam gives better schedules but takes longer.
+ *
+ * Each layer is expanded by several threads at once, each expanding an equal share of the partial solutions.
+ *
+ * The result is only proven optimal if no partial solution was ever thrown away for not fitting in the beam.
+ */
+public class BeamSearchAlgorithm implements AnytimeSchedulingAlgorithm {
+    private static final Comparator<PartialSolution> BY_ESTIMATE =
+            Comparator.comparingInt(PartialSolution::getEstimatedFinishTime);
+
+    private final SolutionSpace solutionSpace;
+    private final int beamWidth;
+    private final int parallelism;
+
+    /**
+     * Set once any partial solution which could still beat the incumbent is thrown away.
+     */
+    private volatile boolean truncated;
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param beamWidth the number of partial solutions to keep in each layer
+     * @param parallelism the number of threads to expand each layer with
+     */
+    public BeamSearchAlgorithm(SolutionSpace solutionSpace, int beamWidth, int parallelism) {
+        if(beamWidth <= 0) {
+            throw new IllegalArgumentException("beam width must be positive");
+        }
+        if(parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.beamWidth = beamWidth;
+        this.parallelism = parallelism;
+    }
+
+    public BeamSearchAlgorithm(SolutionSpace solutionSpace, int beamWidth) {
+        this(solutionSpace, beamWidth, Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // also expires if the thread waiting for a layer to be expanded is interrupted
+        Deadline stop = deadline.derive();
+        truncated = false;
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<PartialSolution> layer = Collections.singletonList(solutionSpace.getRoot(ctx));
+            while(!layer.isEmpty()) {
+                if(stop.hasExpired()) {
+                    return new SearchResult(incumbent.getSchedule(), false);
+                }
+
+                List<PartialSolution> candidates = expandLayer(executor, layer, stop, incumbent);
+                if(stop.hasExpired()) {
+                    // the layer may not have been expanded in full
+                    return new SearchResult(incumbent.getSchedule(), false);
+                }
+                candidates.sort(BY_ESTIMATE);
+
+                List<PartialSolution> nextLayer = new ArrayList<>(Math.min(beamWidth, candidates.size()));
+                Set<StateKey> seen = solutionSpace.isTree() ? null : new HashSet<>();
+                for(val candidate : candidates) {
+                    // the bound may have improved since the candidate was generated
+                    if(candidate.getEstimatedFinishTime() >= incumbent.getBound()) {
+                        break;
+                    }
+
+                    // candidates are sorted, so the first copy of each state has the lowest estimate
+                    if(seen != null && !seen.add(candidate.getStateKey())) {
+                        continue;
+                    }
+
+                    if(nextLayer.size() == beamWidth) {
+                        truncated = true;
+                        break;
+                    }
+                    nextLayer.add(candidate);
+                }
+
+                layer = nextLayer;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new SearchResult(incumbent.getSchedule(), !truncated);
+    }
+
+    /**
+     * Expand every partial solution in a layer, split evenly between the threads. If the thread is interrupted while
+     * waiting for them, the deadline is expired and the thread is left interrupted.
+     * @return the incomplete children which could still beat the incumbent. Complete children are offered to the
+     * incumbent instead.
+     */
+    private List<PartialSolution> expandLayer(ExecutorService executor, List<PartialSolution> layer, Deadline stop,
+                                              Incumbent incumbent) {
+        int shares = Math.min(parallelism, layer.size());
+        List<Callable<List<PartialSolution>>> tasks = new ArrayList<>(shares);
+        for(int i = 0; i < shares; ++i) {
+            val share = layer.subList(i * layer.size() / shares, (i + 1) * layer.size() / shares);
+            tasks.add(() -> expandShare(share, stop, incumbent));
+        }
+
+        List<PartialSolution> candidates = new ArrayList<>();
+        try {
+            for(Future<List<PartialSolution>> result : executor.invokeAll(tasks)) {
+                candidates.addAll(result.get());
+            }
+        } catch (InterruptedException e) {
+            // give up on the layer, and return the best schedule found so far
+            Thread.currentThread().interrupt();
+            stop.expire();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("beam worker failed", e.getCause());
+        }
+
+        return candidates;
+    }
+
+    private List<PartialSolution> expandShare(List<PartialSolution> share, Deadline stop, Incumbent incumbent) {
+        List<PartialSolution> children = new ArrayList<>();
+        for(val s : share) {
+            if(stop.hasExpired()) {
+                break;
+            }
+
+            for(val child : s.expand(incumbent.getBound())) { // branch and bound
+                if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // a complete sibling has lowered the bound since
+                    continue;
+                }
+
+                if(child.isComplete()) {
+                    incumbent.offer(child);
+                } else {
+                    children.add(child);
+                }
+            }
+        }
+
+        // no more than the beam width of these can make it into the next layer
+        if(children.size() > beamWidth) {
+            truncated = true;
+            children.sort(BY_ESTIMATE);
+            children = new ArrayList<>(children.subList(0, beamWidth));
+        }
+
+        return children;
+    }
+}
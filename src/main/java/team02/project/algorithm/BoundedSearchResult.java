@@ -0,0 +1,28 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+
+/**
+ * The outcome of a search which may return a schedule that is not optimal, along with a proof of how far from
+ * optimal it can be.
+ */
+@Value
+public class BoundedSearchResult {
+    /**
+     * The best schedule found.
+     */
+    Schedule schedule;
+
+    /**
+     * No schedule can finish earlier than this.
+     */
+    int lowerBound;
+
+    /**
+     * @return the factor by which the schedule may finish later than the optimal schedule, e.g. 1.05 if it
+     * finishes at most 5% later
+     */
+    public double getSuboptimalityBound() {
+        return lowerBound <= 0 ? 1 : (double) schedule.getFinishTime() / lowerBound;
+    }
+}
@@ -0,0 +1,26 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+import team02.project.algorithm.solnspace.PartialSolution;
+
+import java.util.List;
+
+/**
+ * The state of a depth-first search saved by a {@link Checkpointer}, from which the search can carry on.
+ */
+@Value
+public class Checkpoint {
+    /**
+     * The best schedule found before the checkpoint.
+     */
+    Schedule incumbent;
+
+    /**
+     * The partial solutions waiting to be expanded. Each list is one stack, from the bottom to the top.
+     */
+    List<List<PartialSolution>> stacks;
+
+    long allocationsExpanded;
+    long orderingsExpanded;
+    long completeSchedules;
+}
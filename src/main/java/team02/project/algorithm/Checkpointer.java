@@ -0,0 +1,280 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
+import team02.project.graph.Node;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically saves the state of a depth-first search to a file, so that a search which is stopped part way through
+ * can be carried on later instead of starting again.
+ *
+ * Saving is kept off the search threads. Partial solutions never change once created, so a search only has to copy
+ * references to the partial solutions on its stacks; encoding them with the {@link PartialSolutionCodec} and writing
+ * them out happens on a background thread. While one checkpoint is being written, the next one waits in a second
+ * slot, and is replaced if the search saves again before the write finishes, so the search never waits for the disk.
+ *
+ * Each checkpoint is written to a temporary file which is then moved over the previous one, so there is always a
+ * whole checkpoint on disk even if the program is killed part way through writing one.
+ *
+ * A checkpoint starts with a fingerprint of the task graph and the number of processors, and is only resumed from if
+ * they match the problem being searched. Partial solutions are saved as the decisions made to reach them, which
+ * would decode without error against a different graph of the same size, and give a wrong answer.
+ */
+public class Checkpointer {
+    private static final int MAGIC = 0x43484B50; // "CHKP"
+    private static final long FINGERPRINT_MULTIPLIER = 0x100000001B3L; // FNV-1 64-bit prime
+    private static final long DEFAULT_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final Path file;
+    private final Path temporaryFile;
+    private final long intervalNanos;
+    private final boolean resume;
+
+    private final Object lock = new Object();
+    private Checkpoint next;
+    private boolean writing;
+    private IOException failure;
+    private long lastSaved = System.nanoTime();
+
+    private SchedulingContext context;
+    private PartialSolutionCodec codec;
+
+    /**
+     * @param file the file to save checkpoints to
+     * @param resume true to carry on from the checkpoint already in the file
+     */
+    public Checkpointer(Path file, boolean resume) {
+        this(file, DEFAULT_INTERVAL_MILLIS, resume);
+    }
+
+    /**
+     * @param file the file to save checkpoints to
+     * @param intervalMillis the time between checkpoints
+     * @param resume true to carry on from the checkpoint already in the file
+     */
+    public Checkpointer(Path file, long intervalMillis, boolean resume) {
+        this.file = file;
+        this.temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.resume = resume;
+    }
+
+    /**
+     * Get ready to save the partial solutions of a search, reading back the checkpoint to resume from if there is one.
+     * @param ctx the problem being searched
+     * @param codec the codec for the partial solutions of the search
+     * @return the checkpoint to carry on from, or null if the search should start from the root
+     */
+    public Checkpoint start(SchedulingContext ctx, PartialSolutionCodec codec) {
+        this.context = ctx;
+        this.codec = codec;
+        lastSaved = System.nanoTime();
+
+        if(!resume) {
+            return null;
+        }
+
+        try {
+            return read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not read checkpoint " + file, e);
+        }
+    }
+
+    /**
+     * @return true if it is time to save another checkpoint
+     */
+    public boolean isDue() {
+        return System.nanoTime() - lastSaved >= intervalNanos;
+    }
+
+    /**
+     * Save a checkpoint in the background.
+     * @param checkpoint the state of the search
+     */
+    public void save(Checkpoint checkpoint) {
+        lastSaved = System.nanoTime();
+        synchronized (lock) {
+            if(failure != null) {
+                throw new UncheckedIOException("could not write checkpoint " + file, failure);
+            }
+
+            next = checkpoint;
+            if(!writing) {
+                writing = true;
+                Thread writer = new Thread(this::writeQueued, "checkpoint-writer");
+                writer.setDaemon(true);
+                writer.start();
+            }
+        }
+    }
+
+    /**
+     * Wait for checkpoints being saved to finish. Once a search has finished, its checkpoint is deleted, since there
+     * is nothing left to carry on with.
+     * @param complete true if the search finished
+     */
+    public void finish(boolean complete) {
+        synchronized (lock) {
+            while(writing) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted while writing checkpoint", e);
+                }
+            }
+
+            try {
+                if(complete) {
+                    Files.deleteIfExists(file);
+                } else if(failure != null) {
+                    throw failure;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("could not write checkpoint " + file, e);
+            }
+        }
+    }
+
+    private void writeQueued() {
+        while(true) {
+            Checkpoint checkpoint;
+            synchronized (lock) {
+                checkpoint = next;
+                next = null;
+                if(checkpoint == null) {
+                    writing = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                write(checkpoint);
+            } catch (IOException e) {
+                synchronized (lock) {
+                    failure = e;
+                }
+            }
+        }
+    }
+
+    private void write(Checkpoint checkpoint) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.getMaxEncodedLength());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporaryFile)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(context.getTaskGraph().getNodes().length);
+            out.writeInt(context.getProcessorCount());
+            out.writeLong(fingerprint(context));
+            out.writeLong(checkpoint.getAllocationsExpanded());
+            out.writeLong(checkpoint.getOrderingsExpanded());
+            out.writeLong(checkpoint.getCompleteSchedules());
+
+            out.writeInt(checkpoint.getIncumbent().getTasks().size());
+            for(ScheduledTask task : checkpoint.getIncumbent().getTasks()) {
+                out.writeShort(task.getTask().getIndex());
+                out.writeShort(task.getProcessorId());
+                out.writeInt(task.getStartTime());
+            }
+
+            out.writeInt(checkpoint.getStacks().size());
+            for(List<PartialSolution> stack : checkpoint.getStacks()) {
+                out.writeInt(stack.size());
+                for(PartialSolution solution : stack) {
+                    buffer.clear();
+                    codec.encode(solution, buffer);
+                    out.writeShort(buffer.position());
+                    out.write(buffer.array(), 0, buffer.position());
+                }
+            }
+        }
+
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Hash the weight of every task and of every dependency between them, and the number of processors.
+     */
+    private static long fingerprint(SchedulingContext ctx) {
+        Node[] nodes = ctx.getTaskGraph().getNodes();
+        Node[] nodesByIndex = new Node[nodes.length];
+        for(Node node : nodes) {
+            nodesByIndex[node.getIndex()] = node;
+        }
+
+        long hash = ctx.getProcessorCount();
+        for(Node node : nodesByIndex) {
+            hash = hash * FINGERPRINT_MULTIPLIER + node.getWeight();
+            for(int i = 0; i < node.getOutgoingEdgeNodes().length; ++i) {
+                hash = hash * FINGERPRINT_MULTIPLIER + node.getOutgoingEdgeNodes()[i].getIndex();
+                hash = hash * FINGERPRINT_MULTIPLIER + node.getOutgoingEdgeWeights()[i];
+            }
+            hash = hash * FINGERPRINT_MULTIPLIER + node.getOutgoingEdgeNodes().length;
+        }
+        return hash;
+    }
+
+    private Checkpoint read() throws IOException {
+        Node[] nodesByIndex = new Node[context.getTaskGraph().getNodes().length];
+        for(Node node : context.getTaskGraph().getNodes()) {
+            nodesByIndex[node.getIndex()] = node;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if(in.readInt() != MAGIC) {
+                throw new IOException("not a checkpoint file");
+            }
+            if(in.readInt() != nodesByIndex.length || in.readInt() != context.getProcessorCount()
+                    || in.readLong() != fingerprint(context)) {
+                throw new IOException("checkpoint is for a different problem");
+            }
+
+            long allocationsExpanded = in.readLong();
+            long orderingsExpanded = in.readLong();
+            long completeSchedules = in.readLong();
+
+            Set<ScheduledTask> tasks = new HashSet<>();
+            int taskCount = in.readInt();
+            for(int i = 0; i < taskCount; ++i) {
+                Node task = nodesByIndex[in.readShort()];
+                int processor = in.readShort();
+                tasks.add(new ScheduledTask(processor, in.readInt(), task));
+            }
+
+            List<List<PartialSolution>> stacks = new ArrayList<>();
+            int stackCount = in.readInt();
+            byte[] encoding = new byte[codec.getMaxEncodedLength()];
+            for(int i = 0; i < stackCount; ++i) {
+                int size = in.readInt();
+                List<PartialSolution> stack = new ArrayList<>(size);
+                for(int j = 0; j < size; ++j) {
+                    int length = in.readShort();
+                    in.readFully(encoding, 0, length);
+                    stack.add(codec.decode(ByteBuffer.wrap(encoding, 0, length)));
+                }
+                stacks.add(stack);
+            }
+
+            return new Checkpoint(new Schedule(tasks), stacks, allocationsExpanded, orderingsExpanded,
+                    completeSchedules);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
+import team02.project.algorithm.solnspace.ao.APartialSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The order in which a depth-first search explores the children of a partial solution. Searches that use different
+ * orders head into different parts of the solution space first.
+ */
+public enum ChildOrder {
+    /**
+     * Lowest estimate first, with ties broken by {@link StateKey}, so that the order doesn't depend on the order the
+     * children were created in. This needs no randomness.
+     */
+    BEST_ESTIMATE_FIRST {
+        @Override
+        public List<PartialSolution> order(Collection<PartialSolution> children, Random random) {
+            return inStableOrder(children);
+        }
+    },
+
+    /**
+     * Lowest estimate first, with ties broken at random.
+     */
+    RANDOM_TIES {
+        @Override
+        public List<PartialSolution> order(Collection<PartialSolution> children, Random random) {
+            List<PartialSolution> ordered = new ArrayList<>(children);
+            Collections.shuffle(ordered, random);
+            ordered.sort(BY_ESTIMATE);
+            return ordered;
+        }
+    },
+
+    /**
+     * Allocations which put the task on the least loaded processor first, then lowest estimate first. This finds
+     * evenly spread allocations early. Children which are not allocations are ordered by estimate.
+     */
+    LOAD_BALANCING_FIRST {
+        @Override
+        public List<PartialSolution> order(Collection<PartialSolution> children, Random random) {
+            List<PartialSolution> ordered = new ArrayList<>(children);
+            ordered.sort(Comparator.comparingInt(ChildOrder::processorLoad).thenComparing(BY_ESTIMATE));
+            return ordered;
+        }
+    };
+
+    private static final Comparator<PartialSolution> BY_ESTIMATE =
+            Comparator.comparingInt(PartialSolution::getEstimatedFinishTime);
+
+    /**
+     * @param children the children to order
+     * @param random source of randomness for orders which need it
+     * @return the children, in the order they should be explored
+     */
+    public abstract List<PartialSolution> order(Collection<PartialSolution> children, Random random);
+
+    /**
+     * Sort partial solutions by estimate, breaking ties by {@link StateKey}. Keys are expensive to build, so each one
+     * is only built if its estimate ties with another, and at most once.
+     * @return the partial solutions, the one to explore first first
+     */
+    private static List<PartialSolution> inStableOrder(Collection<PartialSolution> solutions) {
+        PartialSolution[] sorted = solutions.toArray(new PartialSolution[0]);
+        StateKey[] keys = new StateKey[sorted.length];
+
+        // insertion sort, since there are only a few children of each partial solution
+        for(int i = 1; i < sorted.length; ++i) {
+            PartialSolution solution = sorted[i];
+            StateKey key = keys[i];
+            int j = i - 1;
+            for(; j >= 0; --j) {
+                int comparison = Integer.compare(sorted[j].getEstimatedFinishTime(), solution.getEstimatedFinishTime());
+                if(comparison == 0) {
+                    if(keys[j] == null) {
+                        keys[j] = sorted[j].getStateKey();
+                    }
+                    if(key == null) {
+                        key = solution.getStateKey();
+                    }
+                    comparison = keys[j].compareTo(key);
+                }
+                if(comparison <= 0) {
+                    break;
+                }
+
+                sorted[j + 1] = sorted[j];
+                keys[j + 1] = keys[j];
+            }
+            sorted[j + 1] = solution;
+            keys[j + 1] = key;
+        }
+
+        return Arrays.asList(sorted);
+    }
+
+    private static int processorLoad(PartialSolution solution) {
+        return solution instanceof APartialSolution ? ((APartialSolution) solution).getProcessorLoad() : 0;
+    }
+}
@@ -0,0 +1,78 @@
+package team02.project.algorithm;
+
+/**
+ * A wall-clock time limit for a search. Searches check {@link #hasExpired()} as they go and return the best schedule
+ * found so far once it has. A deadline can also be expired early, e.g. when the user interrupts the program, or be
+ * tied to a thread so that it expires once that thread is interrupted.
+ */
+public class Deadline {
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final long expiresAt;
+    private final Deadline parent;
+    private final Thread interruptedBy;
+    private volatile boolean expired = false;
+
+    private Deadline(long expiresAt, Deadline parent, Thread interruptedBy) {
+        this.expiresAt = expiresAt;
+        this.parent = parent;
+        this.interruptedBy = interruptedBy;
+    }
+
+    /**
+     * @return a deadline which only expires if {@link #expire()} is called
+     */
+    public static Deadline none() {
+        return new Deadline(NEVER, null, null);
+    }
+
+    /**
+     * @param millis the time budget in milliseconds, starting now
+     * @return a deadline which expires once the budget has been used up
+     */
+    public static Deadline after(long millis) {
+        return new Deadline(System.nanoTime() + millis * 1_000_000L, null, null);
+    }
+
+    /**
+     * @return a deadline which expires along with this one, but can also be expired on its own without affecting
+     * this one
+     */
+    public Deadline derive() {
+        return new Deadline(NEVER, this, null);
+    }
+
+    /**
+     * A search given this deadline can be cancelled by interrupting the thread waiting for it, like any other blocking
+     * call. Its worker threads see the interrupt through the deadline, and it returns the best schedule found so far.
+     * The thread is left interrupted, so that the caller can tell the search was cancelled.
+     * @return a deadline which expires along with this one, or once the thread calling this is interrupted
+     */
+    public Deadline interruptible() {
+        return new Deadline(NEVER, this, Thread.currentThread());
+    }
+
+    /**
+     * Expire this deadline straight away.
+     */
+    public void expire() {
+        expired = true;
+    }
+
+    /**
+     * @return true if the search should stop and return the best schedule it has
+     */
+    public boolean hasExpired() {
+        if(expired) {
+            return true;
+        }
+
+        if((expiresAt != NEVER && System.nanoTime() - expiresAt >= 0) || (parent != null && parent.hasExpired())
+                || (interruptedBy != null && interruptedBy.isInterrupted())) {
+            expired = true;
+            return true;
+        }
+
+        return false;
+    }
+}
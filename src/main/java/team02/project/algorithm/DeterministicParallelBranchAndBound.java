@@ -0,0 +1,223 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+import team02.project.algorithm.solnspace.StateKey;
+import team02.project.algorithm.solnspace.ao.APartialSolution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parallel depth-first branch and bound which always gives the same schedule and expands the same partial solutions
+ * for the same input and number of workers, so that runs can be reproduced and compared.
+ *
+ * The search runs in rounds. In each round, every worker searches depth-first from its own stack for a fixed number of
+ * expansions, pruning with the incumbent as it was at the start of the round and the schedules the worker has found
+ * itself. Between rounds, while no worker is running, the best schedule each worker found is published, in worker
+ * order, and the partial solutions left on all the stacks are dealt out again, in the same order, so that every worker
+ * has work for the next round. Children are explored in order of estimate, with ties broken by {@link StateKey},
+ * instead of in the order they happen to come out of {@link PartialSolution#expand()}.
+ *
+ * Runs are only reproducible if they aren't stopped by a {@link Deadline}, and the incumbent isn't shared with another
+ * search.
+ */
+public class DeterministicParallelBranchAndBound implements AnytimeSchedulingAlgorithm {
+    private static final int EXPANSIONS_PER_ROUND = 10_000;
+    private static final int SUBPROBLEMS_PER_WORKER = 8;
+
+    // ties in estimate are broken by state key, so the order is the same every run
+    private static final ChildOrder STABLE_ORDER = ChildOrder.BEST_ESTIMATE_FIRST;
+
+    private final SolutionSpace solutionSpace;
+    private final int parallelism;
+    private final AlgorithmMonitor monitor;
+
+    public DeterministicParallelBranchAndBound(SolutionSpace solutionSpace, int parallelism) {
+        this(solutionSpace, parallelism, null);
+    }
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param parallelism the number of workers
+     * @param monitor monitor to update with the progress of the search between rounds, or null
+     */
+    public DeterministicParallelBranchAndBound(SolutionSpace solutionSpace, int parallelism,
+                                               AlgorithmMonitor monitor) {
+        this.solutionSpace = solutionSpace;
+        this.parallelism = parallelism;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stopped early if the thread waiting for the workers is interrupted
+        Deadline stop = deadline.derive();
+        Worker[] workers = new Worker[parallelism];
+        for(int i = 0; i < parallelism; ++i) {
+            workers[i] = new Worker(stop);
+        }
+
+        if(monitor != null) {
+            monitor.setCurrentBest(incumbent.getSchedule());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        try {
+            SearchExecutor executor = new PooledSearchExecutor(pool);
+            List<PartialSolution> frontier = split(solutionSpace.getRoot(ctx), incumbent);
+            while(!frontier.isEmpty()) {
+                if(stop.hasExpired()) {
+                    return new SearchResult(incumbent.getSchedule(), false);
+                }
+
+                // deal out the work in order, so that each worker gets a share of the most promising partial
+                // solutions, and pushes them so that the first one dealt to it is explored first
+                int bound = incumbent.getBound();
+                for(Worker worker : workers) {
+                    worker.startRound(bound);
+                }
+                for(int i = frontier.size() - 1; i >= 0; --i) {
+                    workers[i % parallelism].stack.push(frontier.get(i));
+                }
+
+                executor.invokeAll(Arrays.asList(workers), stop);
+
+                frontier = new ArrayList<>();
+                for(Worker worker : workers) {
+                    if(worker.best != null && incumbent.offer(worker.best) && monitor != null) {
+                        monitor.setCurrentBest(incumbent.getSchedule());
+                    }
+                }
+                for(Worker worker : workers) {
+                    for(PartialSolution schedule : worker.stack) { // from the top of the stack down
+                        if(schedule.getEstimatedFinishTime() < incumbent.getBound()) { // bound
+                            frontier.add(schedule);
+                        }
+                    }
+                }
+
+                updateMonitor(workers);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        if(monitor != null) {
+            monitor.setFinished(true);
+        }
+
+        return new SearchResult(incumbent.getSchedule(), true);
+    }
+
+    /**
+     * Expand the solution space breadth-first until there is enough work to deal out between the workers.
+     * @return the partial solutions, the one to explore first first
+     */
+    private List<PartialSolution> split(PartialSolution root, Incumbent incumbent) {
+        List<PartialSolution> frontier = new ArrayList<>();
+        frontier.add(root);
+
+        int wanted = SUBPROBLEMS_PER_WORKER * parallelism;
+        while(frontier.size() < wanted) {
+            List<PartialSolution> next = new ArrayList<>();
+            boolean expanded = false;
+            for(PartialSolution schedule : frontier) {
+                if(schedule.isComplete()) {
+                    incumbent.offer(schedule);
+                    continue;
+                }
+
+                expanded = true;
+                for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                    next.add(child);
+                }
+            }
+
+            frontier = STABLE_ORDER.order(next, null);
+            if(!expanded) {
+                break;
+            }
+        }
+
+        return frontier;
+    }
+
+    private void updateMonitor(Worker[] workers) {
+        if(monitor == null) {
+            return;
+        }
+
+        long allocationsExpanded = 0;
+        long orderingsExpanded = 0;
+        long completeSchedules = 0;
+        for(Worker worker : workers) {
+            allocationsExpanded += worker.allocationsExpanded;
+            orderingsExpanded += worker.orderingsExpanded;
+            completeSchedules += worker.completeSchedules;
+        }
+        monitor.setAllocationsExpanded(allocationsExpanded);
+        monitor.setOrderingsExpanded(orderingsExpanded);
+        monitor.setCompleteSchedules(completeSchedules);
+    }
+
+    private static class Worker implements Runnable {
+        private final Deadline deadline;
+        private final Deque<PartialSolution> stack = new ArrayDeque<>();
+        private int bound;
+        private PartialSolution best;
+
+        private long allocationsExpanded;
+        private long orderingsExpanded;
+        private long completeSchedules;
+
+        private Worker(Deadline deadline) {
+            this.deadline = deadline;
+        }
+
+        private void startRound(int bound) {
+            this.bound = bound;
+            this.best = null;
+            stack.clear();
+        }
+
+        @Override
+        public void run() {
+            for(int expansions = 0; expansions < EXPANSIONS_PER_ROUND && !stack.isEmpty(); ) {
+                val schedule = stack.pop();
+                if(schedule.getEstimatedFinishTime() >= bound) {
+                    continue;
+                }
+
+                if(schedule.isComplete()) { // don't expand
+                    completeSchedules++;
+                    bound = schedule.getEstimatedFinishTime();
+                    best = schedule;
+                    continue;
+                }
+
+                if(schedule instanceof APartialSolution) {
+                    allocationsExpanded++;
+                } else {
+                    orderingsExpanded++;
+                }
+
+                // the child to explore first is pushed last, so that it is popped first
+                List<PartialSolution> children = STABLE_ORDER.order(schedule.expand(bound), null); // branch and bound
+                for(int i = children.size() - 1; i >= 0; --i) {
+                    stack.push(children.get(i));
+                }
+
+                if(++expansions % 1024 == 0 && deadline.hasExpired()) {
+                    return;
+                }
+            }
+        }
+    }
+}
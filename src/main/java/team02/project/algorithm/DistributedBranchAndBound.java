@@ -0,0 +1,345 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static team02.project.algorithm.DistributedProtocol.*;
+
+/**
+ * Coordinator for depth-first branch and bound spread over several processes, possibly on other machines. Each
+ * process runs a {@link DistributedWorker} which connects to the coordinator over TCP.
+ *
+ * The coordinator expands the top of the AO solution space breadth-first into many subproblems, and sends them out
+ * to workers one at a time, lowest estimate first. A worker searches the whole subtree below its subproblem before
+ * asking for another. Whenever a worker finds a better schedule it sends it back, and the new bound is passed on to
+ * every worker so that they all prune with it. If a worker disconnects part way through a subproblem, the subproblem
+ * is handed out again. The search is over once every subproblem has been searched.
+ */
+public class DistributedBranchAndBound implements AnytimeSchedulingAlgorithm {
+    private static final int SUBPROBLEM_COUNT = 1024;
+    private static final int ACCEPT_TIMEOUT_MILLIS = 100;
+    private static final long POLL_MILLIS = 100;
+
+    private final int port;
+    private volatile int localPort;
+    private final AOSolutionSpace solutionSpace = new AOSolutionSpace();
+
+    private Incumbent incumbent;
+    private SchedulingContext context;
+    private SchedulingContext wireContext;
+    private PartialSolutionCodec codec;
+    private byte[] problem;
+
+    private final Object lock = new Object();
+    private PriorityQueue<Subproblem> pending;
+    private int outstanding;
+    private volatile boolean finished;
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+    /**
+     * @param port the port to listen for workers on, or 0 for any free port
+     */
+    public DistributedBranchAndBound(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        this.incumbent = incumbent;
+        this.context = ctx;
+        finished = false;
+        outstanding = 0;
+        connections.clear();
+
+        try (ServerSocket server = new ServerSocket(port)) {
+            localPort = server.getLocalPort();
+            problem = writeProblem(ctx);
+            wireContext = readProblem(problem);
+            codec = solutionSpace.getCodec(wireContext);
+            pending = new PriorityQueue<>(Comparator.comparingInt(Subproblem::getEstimate));
+            for(PartialSolution subproblem : split(solutionSpace.getRoot(wireContext), deadline)) {
+                pending.add(new Subproblem(subproblem.getEstimatedFinishTime(), encode(subproblem)));
+            }
+
+            server.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+            Thread acceptor = new Thread(() -> accept(server), "distributed-accept");
+            acceptor.setDaemon(true);
+            acceptor.start();
+
+            boolean complete = awaitCompletion(deadline);
+            if(!complete) {
+                // workers part way through a subproblem are cut off
+                for(Connection connection : connections) {
+                    connection.close();
+                }
+            }
+
+            return new SearchResult(incumbent.getSchedule(), complete);
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not run distributed search", e);
+        } finally {
+            localPort = 0;
+            finished = true;
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return the port workers can connect to, or 0 if the search isn't listening for them
+     */
+    int getLocalPort() {
+        return localPort;
+    }
+
+    /**
+     * Expand the solution space breadth-first until there are enough subproblems to keep the workers busy.
+     * @return the subproblems
+     */
+    private List<PartialSolution> split(PartialSolution root, Deadline deadline) {
+        Queue<PartialSolution> frontier = new LinkedList<>();
+        frontier.add(root);
+
+        while(!frontier.isEmpty() && frontier.size() < SUBPROBLEM_COUNT && !deadline.hasExpired()) {
+            val schedule = frontier.poll();
+            if(schedule.isComplete()) {
+                offer(schedule);
+                continue;
+            }
+
+            for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                frontier.add(child);
+            }
+        }
+
+        return new ArrayList<>(frontier);
+    }
+
+    /**
+     * Wait until every subproblem has been searched, or the deadline expires.
+     * @return true if every subproblem has been searched
+     */
+    private boolean awaitCompletion(Deadline deadline) {
+        synchronized (lock) {
+            while(!isComplete()) {
+                if(deadline.hasExpired()) {
+                    return false;
+                }
+
+                try {
+                    lock.wait(POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("interrupted while waiting for workers", e);
+                }
+            }
+
+            finished = true;
+            lock.notifyAll();
+            return true;
+        }
+    }
+
+    private boolean isComplete() {
+        prune();
+        return pending.isEmpty() && outstanding == 0;
+    }
+
+    /**
+     * Drop the subproblems that can no longer beat the incumbent.
+     */
+    private void prune() {
+        while(!pending.isEmpty() && pending.peek().getEstimate() >= incumbent.getBound()) {
+            pending.poll();
+        }
+    }
+
+    /**
+     * Hand out the most promising subproblem, waiting while other workers might still hand theirs back.
+     * @return the subproblem, or null if there is nothing left to search
+     */
+    private Subproblem take() throws InterruptedException {
+        synchronized (lock) {
+            while(!finished) {
+                prune();
+                Subproblem subproblem = pending.poll();
+                if(subproblem != null) {
+                    outstanding++;
+                    return subproblem;
+                }
+
+                if(outstanding == 0) {
+                    lock.notifyAll();
+                    return null;
+                }
+
+                lock.wait();
+            }
+            return null;
+        }
+    }
+
+    private void completed() {
+        synchronized (lock) {
+            outstanding--;
+            lock.notifyAll();
+        }
+    }
+
+    private void requeue(Subproblem subproblem) {
+        synchronized (lock) {
+            outstanding--;
+            pending.add(subproblem);
+            lock.notifyAll();
+        }
+    }
+
+    private void offer(PartialSolution complete) {
+        if(complete.getEstimatedFinishTime() >= incumbent.getBound()) {
+            return;
+        }
+
+        if(incumbent.offer(translate(complete.makeComplete(), context.getTaskGraph()))) {
+            int bound = incumbent.getBound();
+            for(Connection connection : connections) {
+                connection.sendBound(bound);
+            }
+        }
+    }
+
+    private byte[] encode(PartialSolution solution) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.getMaxEncodedLength());
+        codec.encode(solution, buffer);
+        byte[] encoding = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(encoding);
+        return encoding;
+    }
+
+    private void accept(ServerSocket server) {
+        while(!finished) {
+            try {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                Connection connection = new Connection(socket);
+                Thread thread = new Thread(connection, "distributed-" + socket.getRemoteSocketAddress());
+                thread.setDaemon(true);
+                thread.start();
+            } catch (SocketTimeoutException e) {
+                // check whether the search has finished
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * The coordinator's end of the connection to one worker.
+     */
+    private class Connection implements Runnable {
+        private final Socket socket;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private Subproblem current;
+
+        private Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        @Override
+        public void run() {
+            try {
+                // new bounds are only sent once the worker has the problem to read them against
+                send(PROBLEM, problem);
+                connections.add(this);
+                while(true) {
+                    byte type = in.readByte();
+                    byte[] payload = readPayload(in);
+                    if(type == INCUMBENT) {
+                        offer(codec.decode(ByteBuffer.wrap(payload)));
+                    } else if(type == REQUEST_WORK) {
+                        if(current != null) {
+                            completed();
+                            current = null;
+                        }
+
+                        current = take();
+                        if(current == null) {
+                            send(DONE, new byte[0]);
+                            return;
+                        }
+
+                        sendBound(incumbent.getBound());
+                        send(SUBPROBLEM, current.getEncoding());
+                    } else {
+                        throw new IOException("unexpected message " + type);
+                    }
+                }
+            } catch (IOException e) {
+                // the worker has gone; its subproblem is handed out again below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                if(current != null) {
+                    requeue(current);
+                }
+                connections.remove(this);
+                close();
+            }
+        }
+
+        private void sendBound(int bound) {
+            try {
+                synchronized (out) {
+                    writeBound(out, bound);
+                }
+            } catch (IOException e) {
+                // the worker has gone, which is dealt with when its next message fails to arrive
+            }
+        }
+
+        private void send(byte type, byte[] payload) throws IOException {
+            synchronized (out) {
+                writeMessage(out, type, payload);
+            }
+        }
+
+        private void close() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    @Value
+    private static class Subproblem {
+        int estimate;
+        byte[] encoding;
+    }
+}
@@ -0,0 +1,123 @@
+package team02.project.algorithm;
+
+import team02.project.graph.Graph;
+import team02.project.graph.GraphBuilder;
+import team02.project.graph.GraphBuilderImpl;
+import team02.project.graph.Node;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Messages sent between {@link DistributedBranchAndBound} and {@link DistributedWorker}. Every message is a one byte
+ * type, followed by the length of its payload and then the payload itself.
+ *
+ * Partial solutions are sent in the encoding given by {@link team02.project.algorithm.solnspace.ao.AOPartialSolutionCodec},
+ * which refers to tasks by their position in the graph. So that both ends agree on these, neither uses the graph as
+ * it was read from the input file: the coordinator writes out the problem, and the coordinator and the workers all
+ * search a graph built from those same bytes.
+ */
+final class DistributedProtocol {
+    // coordinator to worker
+    static final byte PROBLEM = 1;
+    static final byte BOUND = 2;
+    static final byte SUBPROBLEM = 3;
+    static final byte DONE = 4;
+
+    // worker to coordinator
+    static final byte REQUEST_WORK = 5;
+    static final byte INCUMBENT = 6;
+
+    private DistributedProtocol() {}
+
+    /**
+     * Write out the task graph and processor count, with tasks in index order.
+     */
+    static byte[] writeProblem(SchedulingContext ctx) throws IOException {
+        Node[] nodes = new Node[ctx.getTaskGraph().getNodes().length];
+        for(Node node : ctx.getTaskGraph().getNodes()) {
+            nodes[node.getIndex()] = node;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(ctx.getProcessorCount());
+        out.writeUTF(ctx.getTaskGraph().getId() == null ? "" : ctx.getTaskGraph().getId());
+        out.writeInt(nodes.length);
+        for(Node node : nodes) {
+            out.writeUTF(node.getId());
+            out.writeInt(node.getWeight());
+        }
+        for(Node node : nodes) {
+            out.writeInt(node.getOutgoingEdgeNodes().length);
+            for(int i = 0; i < node.getOutgoingEdgeNodes().length; ++i) {
+                out.writeInt(node.getOutgoingEdgeNodes()[i].getIndex());
+                out.writeInt(node.getOutgoingEdgeWeights()[i]);
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    static SchedulingContext readProblem(byte[] problem) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(problem));
+        int processorCount = in.readInt();
+
+        GraphBuilder builder = new GraphBuilderImpl();
+        builder.setId(in.readUTF());
+        String[] ids = new String[in.readInt()];
+        for(int i = 0; i < ids.length; ++i) {
+            ids[i] = in.readUTF();
+            builder.addNode(ids[i], in.readInt());
+        }
+        for(String from : ids) {
+            int edges = in.readInt();
+            for(int i = 0; i < edges; ++i) {
+                String to = ids[in.readInt()];
+                builder.addEdge(from, to, in.readInt());
+            }
+        }
+
+        return new SchedulingContext(builder.build(), processorCount);
+    }
+
+    /**
+     * Move a schedule of the graph built by {@link #readProblem(byte[])} over to the matching tasks of another graph
+     * with the same task ids.
+     */
+    static Schedule translate(Schedule schedule, Graph graph) {
+        Set<ScheduledTask> tasks = new HashSet<>();
+        for(ScheduledTask task : schedule.getTasks()) {
+            tasks.add(new ScheduledTask(task.getProcessorId(), task.getStartTime(),
+                    graph.getNode(task.getTask().getId())));
+        }
+        return new Schedule(tasks);
+    }
+
+    static void writeBound(DataOutputStream out, int bound) throws IOException {
+        writeMessage(out, BOUND, ByteBuffer.allocate(Integer.BYTES).putInt(bound).array());
+    }
+
+    static int readBound(byte[] payload) {
+        return ByteBuffer.wrap(payload).getInt();
+    }
+
+    static void writeMessage(DataOutputStream out, byte type, byte[] payload) throws IOException {
+        out.writeByte(type);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.flush();
+    }
+
+    static byte[] readPayload(DataInputStream in) throws IOException {
+        byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+        return payload;
+    }
+}
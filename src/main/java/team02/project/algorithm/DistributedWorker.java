@@ -0,0 +1,171 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static team02.project.algorithm.DistributedProtocol.*;
+
+/**
+ * A worker process for {@link DistributedBranchAndBound}. It connects to the coordinator, receives the problem, then
+ * repeatedly asks for a subproblem and searches the subtree below it depth-first, sending back every schedule that
+ * improves on the bound. It exits once the coordinator says the search is over, or the connection is lost.
+ *
+ * Usage: {@code java -cp <project.jar> team02.project.algorithm.DistributedWorker HOST PORT}
+ */
+public class DistributedWorker {
+    private static final int EXIT_FAILURE = 1;
+    private static final byte[] NONE = new byte[0];
+
+    private final String host;
+    private final int port;
+
+    /**
+     * The lowest finish time known anywhere, kept up to date by the coordinator.
+     */
+    private final AtomicInteger bound = new AtomicInteger(Integer.MAX_VALUE);
+
+    /**
+     * Subproblems from the coordinator, or an empty array once the search is over.
+     */
+    private final BlockingQueue<byte[]> subproblems = new LinkedBlockingQueue<>();
+    private volatile boolean finished;
+    private volatile IOException failure;
+
+    public DistributedWorker(String host, int port) {
+        this.host = host;
+        this.port = port;
+    }
+
+    public static void main(String[] args) {
+        if(args.length != 2) {
+            System.out.println("Usage: java -cp <project.jar> " + DistributedWorker.class.getName() + " HOST PORT");
+            System.exit(EXIT_FAILURE);
+            return;
+        }
+
+        try {
+            new DistributedWorker(args[0], Integer.parseInt(args[1])).run();
+        } catch (NumberFormatException e) {
+            System.out.println("PORT must be an integer");
+            System.exit(EXIT_FAILURE);
+        } catch (IOException e) {
+            System.out.println("Error communicating with the coordinator: " + e.getMessage());
+            System.exit(EXIT_FAILURE);
+        }
+    }
+
+    /**
+     * Search subproblems for the coordinator until the search is over.
+     */
+    public void run() throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            if(in.readByte() != PROBLEM) {
+                throw new IOException("expected the problem from the coordinator");
+            }
+            SchedulingContext ctx = readProblem(readPayload(in));
+            AOSolutionSpace solutionSpace = new AOSolutionSpace();
+            PartialSolutionCodec codec = solutionSpace.getCodec(ctx);
+
+            // bounds can arrive at any time, so messages are read on their own thread
+            Thread reader = new Thread(() -> receive(in), "distributed-receive");
+            reader.setDaemon(true);
+            reader.start();
+
+            ByteBuffer buffer = ByteBuffer.allocate(codec.getMaxEncodedLength());
+            while(true) {
+                writeMessage(out, REQUEST_WORK, NONE);
+
+                byte[] subproblem;
+                try {
+                    subproblem = subproblems.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if(subproblem.length == 0) {
+                    if(failure != null) {
+                        throw failure;
+                    }
+                    return;
+                }
+
+                search(codec.decode(ByteBuffer.wrap(subproblem)), codec, buffer, out);
+            }
+        }
+    }
+
+    private void receive(DataInputStream in) {
+        try {
+            while(true) {
+                byte type = in.readByte();
+                byte[] payload = readPayload(in);
+                if(type == BOUND) {
+                    bound.accumulateAndGet(readBound(payload), Math::min);
+                } else if(type == SUBPROBLEM) {
+                    subproblems.add(payload);
+                } else if(type == DONE) {
+                    break;
+                } else {
+                    throw new IOException("unexpected message " + type);
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+
+        finished = true;
+        subproblems.add(NONE);
+    }
+
+    /**
+     * Depth-first branch and bound below one subproblem.
+     */
+    private void search(PartialSolution subproblem, PartialSolutionCodec codec, ByteBuffer buffer,
+                        DataOutputStream out) throws IOException {
+        Deque<PartialSolution> stack = new ArrayDeque<>();
+        stack.push(subproblem);
+
+        while(!stack.isEmpty() && !finished) {
+            val schedule = stack.pop();
+            if(schedule.getEstimatedFinishTime() >= bound.get()) {
+                continue;
+            }
+
+            if(schedule.isComplete()) {
+                bound.accumulateAndGet(schedule.getEstimatedFinishTime(), Math::min);
+
+                buffer.clear();
+                codec.encode(schedule, buffer);
+                byte[] encoding = new byte[buffer.position()];
+                buffer.flip();
+                buffer.get(encoding);
+                writeMessage(out, INCUMBENT, encoding);
+                continue;
+            }
+
+            for(val child : schedule.expand(bound.get())) { // branch and bound
+                stack.push(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+
+/**
+ * Settings for making the workers of {@link ParallelBranchAndBound} search in different ways, so that they don't all
+ * head for the same part of the solution space. Each worker explores children in a different {@link ChildOrder},
+ * with its own random seed.
+ *
+ * A worker which goes too long without improving the incumbent restarts: it hands all of its work back to be shared
+ * out again, and carries on from somewhere else. No work is thrown away, so the search still proves optimality.
+ */
+@Value
+public class Diversification {
+    /**
+     * Seed for the random choices of the workers. Worker i uses seed + i.
+     */
+    long seed;
+
+    /**
+     * The number of partial solutions a worker may expand without improving the incumbent before it first restarts,
+     * or 0 to never restart. The number doubles after each restart.
+     */
+    long restartBudget;
+}
@@ -0,0 +1,368 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * External-memory A*. The open set is split into buckets by estimate, and partial solutions are kept in the compact
+ * binary form given by {@link SolutionSpace#getCodec(SchedulingContext)}. Once more than the memory budget of partial
+ * solutions are held in memory, every bucket is sorted and written to its own file on disk as a run. When the search
+ * reaches a bucket, its runs are merged back in sorted order, so that duplicate partial solutions end up next to each
+ * other and only one of them is expanded (delayed duplicate detection).
+ *
+ * This lets the search hold many more partial solutions than fit in the heap, at the cost of the disk I/O and of
+ * rebuilding each partial solution from its encoding when it is expanded. A search cancelled by interrupting the
+ * calling thread returns the best schedule found so far, and deletes what it wrote to disk.
+ */
+public class ExternalMemoryAStarAlgorithm implements SchedulingAlgorithm {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final Comparator<byte[]> ENCODING_ORDER = ExternalMemoryAStarAlgorithm::compareEncodings;
+
+    private final SolutionSpace solutionSpace;
+    private final int memoryBudget;
+    private final Path spillDirectory;
+    private long runsMerged;
+
+    /**
+     * @param solutionSpace the solution space to search, which must support {@link SolutionSpace#getCodec}
+     * @param memoryBudget the number of partial solutions to hold in memory before writing them to disk
+     */
+    public ExternalMemoryAStarAlgorithm(SolutionSpace solutionSpace, int memoryBudget) {
+        this(solutionSpace, memoryBudget, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param solutionSpace the solution space to search, which must support {@link SolutionSpace#getCodec}
+     * @param memoryBudget the number of partial solutions to hold in memory before writing them to disk
+     * @param spillDirectory the directory to write partial solutions to
+     */
+    public ExternalMemoryAStarAlgorithm(SolutionSpace solutionSpace, int memoryBudget, Path spillDirectory) {
+        if(memoryBudget <= 0) {
+            throw new IllegalArgumentException("memory budget must be positive");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.memoryBudget = memoryBudget;
+        this.spillDirectory = spillDirectory;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        val incumbent = new Incumbent(new TopologicalSortAlgorithm().calculateOptimal(ctx));
+        val codec = solutionSpace.getCodec(ctx);
+        runsMerged = 0;
+        Deadline deadline = Deadline.none().interruptible();
+
+        try (Frontier frontier = new Frontier(Files.createTempDirectory(spillDirectory, "astar-"), codec)) {
+            val root = solutionSpace.getRoot(ctx);
+            frontier.add(root, root.getEstimatedFinishTime());
+
+            while(true) {
+                // every schedule left finishes no earlier than the lowest estimate
+                Integer estimate = frontier.lowestEstimate();
+                if(estimate == null || estimate >= incumbent.getBound() || deadline.hasExpired()) {
+                    return incumbent.getSchedule();
+                }
+
+                try (Bucket bucket = frontier.take(estimate)) {
+                    bucket.forEachUnique(s -> {
+                        if(deadline.hasExpired()) {
+                            // skip the rest of the bucket
+                            return;
+                        }
+
+                        for(val child : s.expand(incumbent.getBound())) { // branch and bound
+                            // a child can't finish before its parent does
+                            int childEstimate = Math.max(estimate, child.getEstimatedFinishTime());
+                            if(childEstimate >= incumbent.getBound()) { // bound
+                                continue;
+                            }
+
+                            if(child.isComplete()) {
+                                incumbent.offer(child);
+                            } else {
+                                frontier.add(child, childEstimate);
+                            }
+                        }
+                    });
+                }
+            }
+        } catch (ClosedByInterruptException e) {
+            // the interrupt which cancelled the search also closed the file being read or written
+            return incumbent.getSchedule();
+        } catch (IOException e) {
+            throw new UncheckedIOException("could not spill search to disk", e);
+        }
+    }
+
+    /**
+     * @return the number of runs the last search wrote to disk and later merged back in
+     */
+    long getRunsMerged() {
+        return runsMerged;
+    }
+
+    /**
+     * Order encodings byte by byte, so that equal encodings end up next to each other once sorted.
+     */
+    private static int compareEncodings(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        for(int i = 0; i < length; ++i) {
+            if(a[i] != b[i]) {
+                return Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    @FunctionalInterface
+    private interface Expansion {
+        void accept(PartialSolution solution) throws IOException;
+    }
+
+    /**
+     * The open set: all partial solutions waiting to be expanded, bucketed by estimate.
+     */
+    private class Frontier implements Closeable {
+        private final Path directory;
+        private final PartialSolutionCodec codec;
+        private final ByteBuffer encodeBuffer;
+        private final TreeMap<Integer, Bucket> buckets = new TreeMap<>();
+        private int inMemory = 0;
+        private int bucketsCreated = 0;
+
+        private Frontier(Path directory, PartialSolutionCodec codec) {
+            this.directory = directory;
+            this.codec = codec;
+            this.encodeBuffer = ByteBuffer.allocate(codec.getMaxEncodedLength());
+        }
+
+        private void add(PartialSolution solution, int estimate) throws IOException {
+            encodeBuffer.clear();
+            codec.encode(solution, encodeBuffer);
+            byte[] encoding = new byte[encodeBuffer.position()];
+            encodeBuffer.flip();
+            encodeBuffer.get(encoding);
+
+            Bucket bucket = buckets.get(estimate);
+            if(bucket == null) {
+                bucket = new Bucket(directory.resolve("bucket-" + estimate + "-" + bucketsCreated++), codec);
+                buckets.put(estimate, bucket);
+            }
+            bucket.pending.add(encoding);
+
+            if(++inMemory > memoryBudget) {
+                for(Bucket b : buckets.values()) {
+                    b.spill();
+                }
+                inMemory = 0;
+            }
+        }
+
+        private Integer lowestEstimate() {
+            return buckets.isEmpty() ? null : buckets.firstKey();
+        }
+
+        /**
+         * Remove a bucket for expansion. Any partial solutions added with the same estimate from now on go into a
+         * new bucket.
+         */
+        private Bucket take(int estimate) {
+            Bucket bucket = buckets.remove(estimate);
+            inMemory -= bucket.pending.size();
+            runsMerged += bucket.runs.size();
+            return bucket;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for(Bucket bucket : buckets.values()) {
+                bucket.close();
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Partial solutions with the same estimate. Those written to disk are stored as sorted runs in a single file.
+     */
+    private static class Bucket implements Closeable {
+        private final Path file;
+        private final PartialSolutionCodec codec;
+        private final List<byte[]> pending = new ArrayList<>();
+        private final List<long[]> runs = new ArrayList<>();
+        private FileChannel channel;
+        private long fileLength = 0;
+
+        private Bucket(Path file, PartialSolutionCodec codec) {
+            this.file = file;
+            this.codec = codec;
+        }
+
+        /**
+         * Sort the partial solutions held in memory and append them to the file as a new run.
+         */
+        private void spill() throws IOException {
+            if(pending.isEmpty()) {
+                return;
+            }
+
+            if(channel == null) {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            }
+
+            pending.sort(ENCODING_ORDER);
+            ByteBuffer out = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            long start = fileLength;
+            byte[] last = null;
+            for(byte[] encoding : pending) {
+                if(last != null && compareEncodings(last, encoding) == 0) {
+                    continue;
+                }
+                last = encoding;
+
+                if(out.remaining() < Short.BYTES + encoding.length) {
+                    write(out);
+                }
+                out.putShort((short) encoding.length);
+                out.put(encoding);
+            }
+            write(out);
+
+            runs.add(new long[] {start, fileLength});
+            pending.clear();
+        }
+
+        private void write(ByteBuffer out) throws IOException {
+            out.flip();
+            while(out.hasRemaining()) {
+                fileLength += channel.write(out, fileLength);
+            }
+            out.clear();
+        }
+
+        /**
+         * Merge the runs of this bucket in sorted order, decoding and passing on each distinct partial solution once.
+         */
+        private void forEachUnique(Expansion action) throws IOException {
+            PriorityQueue<Run> merge = new PriorityQueue<>(Comparator.comparing(x -> x.head, ENCODING_ORDER));
+            for(long[] run : runs) {
+                Run fileRun = new FileRun(run[0], run[1]);
+                if(fileRun.advance()) {
+                    merge.add(fileRun);
+                }
+            }
+
+            pending.sort(ENCODING_ORDER);
+            Run memoryRun = new MemoryRun(pending.iterator());
+            if(memoryRun.advance()) {
+                merge.add(memoryRun);
+            }
+
+            byte[] last = null;
+            while(!merge.isEmpty()) {
+                Run run = merge.poll();
+                byte[] encoding = run.head;
+                if(run.advance()) {
+                    merge.add(run);
+                }
+
+                // duplicates come out of the merge one after the other
+                if(last != null && compareEncodings(last, encoding) == 0) {
+                    continue;
+                }
+                last = encoding;
+
+                action.accept(codec.decode(ByteBuffer.wrap(encoding)));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if(channel != null) {
+                channel.close();
+            }
+            Files.deleteIfExists(file);
+        }
+
+        private abstract class Run {
+            protected byte[] head;
+
+            /**
+             * Move on to the next encoding in the run.
+             * @return false if the run is finished
+             */
+            protected abstract boolean advance() throws IOException;
+        }
+
+        private class MemoryRun extends Run {
+            private final Iterator<byte[]> encodings;
+
+            private MemoryRun(Iterator<byte[]> encodings) {
+                this.encodings = encodings;
+            }
+
+            @Override
+            protected boolean advance() {
+                head = encodings.hasNext() ? encodings.next() : null;
+                return head != null;
+            }
+        }
+
+        private class FileRun extends Run {
+            private final ByteBuffer buffer;
+            private final long end;
+            private long position;
+
+            private FileRun(long start, long end) {
+                // a small budget writes many short runs, so don't hold more than a run in memory for each of them
+                this.buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, end - start));
+                this.position = start;
+                this.end = end;
+                buffer.flip();
+            }
+
+            @Override
+            protected boolean advance() throws IOException {
+                // make sure the buffer holds a whole record, unless the run is about to finish
+                if(buffer.remaining() < Short.BYTES + codec.getMaxEncodedLength() && position < end) {
+                    buffer.compact();
+                    buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + end - position));
+                    while(buffer.hasRemaining()) {
+                        position += channel.read(buffer, position);
+                    }
+                    buffer.flip();
+                }
+
+                if(!buffer.hasRemaining()) {
+                    head = null;
+                    return false;
+                }
+
+                head = new byte[buffer.getShort()];
+                buffer.get(head);
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+
+/**
+ * Bounded-suboptimal A* search using a focal list (A*<sub>&epsilon;</sub>). The open set is ordered by estimate as in
+ * {@link AStarAlgorithm}, and the lowest estimate in it is a lower bound on the optimal finish time. Instead of always
+ * expanding the partial solution with the lowest estimate, any partial solution with an estimate within a factor of
+ * (1 + epsilon) of that lower bound may be expanded. Of those, the deepest is chosen, so that the search dives towards
+ * complete schedules instead of widening the whole front of the search.
+ *
+ * The search stops as soon as the best schedule found finishes within (1 + epsilon) times the lower bound. The
+ * returned {@link BoundedSearchResult} holds the lower bound, so the schedule comes with a proof of how far from
+ * optimal it can be. With an epsilon of 0, the schedule is optimal.
+ *
+ * A search cancelled by interrupting the calling thread returns the best schedule found so far, along with the lower
+ * bound reached so far.
+ */
+public class FocalAStarAlgorithm implements SchedulingAlgorithm {
+    private final SolutionSpace solutionSpace;
+    private final double epsilon;
+
+    private TreeSet<SearchNode> open;
+    private TreeSet<SearchNode> focal;
+    private StateTable queuedStates;
+    private long nodesCreated;
+
+    /**
+     * Highest estimate up to which every partial solution in the open set has been put in the focal list.
+     */
+    private int focalBound;
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param epsilon how far from optimal the schedule may be, e.g. 0.05 for within 5%
+     */
+    public FocalAStarAlgorithm(SolutionSpace solutionSpace, double epsilon) {
+        if(!(epsilon >= 0)) {
+            throw new IllegalArgumentException("epsilon must not be negative");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.epsilon = epsilon;
+    }
+
+    /**
+     * @return a schedule which finishes no later than (1 + epsilon) times the optimal finish time
+     */
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        return calculateBounded(ctx).getSchedule();
+    }
+
+    /**
+     * Compute a schedule which finishes no later than (1 + epsilon) times the optimal finish time.
+     * @param ctx The {@link SchedulingContext} of the algorithm
+     * @return The schedule, along with a lower bound on the optimal finish time
+     */
+    public BoundedSearchResult calculateBounded(SchedulingContext ctx) {
+        val incumbent = new Incumbent(new TopologicalSortAlgorithm().calculateOptimal(ctx));
+
+        open = new TreeSet<>(Comparator.<SearchNode>comparingInt(x -> x.estimate)
+                .thenComparingLong(x -> x.id));
+        focal = new TreeSet<>(Comparator.<SearchNode>comparingInt(x -> x.depth).reversed()
+                .thenComparingInt(x -> x.estimate)
+                .thenComparingLong(x -> x.id));
+        queuedStates = solutionSpace.isTree() ? null : new StateTable(1000);
+        nodesCreated = 0;
+        focalBound = Integer.MIN_VALUE;
+
+        val root = solutionSpace.getRoot(ctx);
+        if(queuedStates != null) {
+            queuedStates.putIfLower(root.getStateKey(), root.getEstimatedFinishTime());
+        }
+        enqueue(new SearchNode(root, 0));
+
+        Deadline deadline = Deadline.none().interruptible();
+        while(true) {
+            // the optimal schedule is either the incumbent or below a partial solution still in the open set
+            int lowerBound = open.isEmpty()
+                    ? incumbent.getBound()
+                    : Math.min(open.first().estimate, incumbent.getBound());
+            int threshold = threshold(lowerBound);
+
+            if(incumbent.getBound() <= threshold || deadline.hasExpired()) {
+                return new BoundedSearchResult(incumbent.getSchedule(), lowerBound);
+            }
+
+            updateFocal(threshold);
+            SearchNode node = focal.pollFirst();
+            node.inFocal = false;
+            open.remove(node);
+
+            // skip if the same state was queued again with a lower estimate; that copy is expanded instead
+            if(queuedStates != null && queuedStates.get(node.solution.getStateKey()) < node.estimate) {
+                continue;
+            }
+
+            for(val child : node.solution.expand(incumbent.getBound())) { // branch and bound
+                if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // a complete sibling has lowered the bound since
+                    continue;
+                }
+
+                if(child.isComplete()) {
+                    incumbent.offer(child);
+                } else if(queuedStates == null
+                        || queuedStates.putIfLower(child.getStateKey(), child.getEstimatedFinishTime())) {
+                    enqueue(new SearchNode(child, node.depth + 1));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the highest finish time within a factor of (1 + epsilon) of the lower bound
+     */
+    private int threshold(int lowerBound) {
+        return (int) Math.floor((1 + epsilon) * lowerBound);
+    }
+
+    /**
+     * Bring the focal list in line with a new threshold. Partial solutions which are no longer within the threshold
+     * are left in the focal list until they are reached, since the threshold usually only goes up.
+     */
+    private void updateFocal(int threshold) {
+        if(threshold > focalBound && !open.isEmpty()) {
+            SearchNode from = new SearchNode(focalBound, Long.MAX_VALUE);
+            SearchNode to = new SearchNode(threshold, Long.MAX_VALUE);
+            for(SearchNode node : open.subSet(from, false, to, false)) {
+                if(!node.inFocal) {
+                    focal.add(node);
+                    node.inFocal = true;
+                }
+            }
+        }
+        focalBound = threshold;
+
+        // the deepest partial solution may have been added while the threshold was higher
+        while(focal.first().estimate > threshold) {
+            focal.pollFirst().inFocal = false;
+        }
+    }
+
+    private void enqueue(SearchNode node) {
+        open.add(node);
+        if(node.estimate <= focalBound) {
+            focal.add(node);
+            node.inFocal = true;
+        }
+    }
+
+    private class SearchNode {
+        private final PartialSolution solution;
+        private final int estimate;
+        private final int depth;
+        private final long id;
+        private boolean inFocal = false;
+
+        private SearchNode(PartialSolution solution, int depth) {
+            this.solution = solution;
+            this.estimate = solution.getEstimatedFinishTime();
+            this.depth = depth;
+            this.id = nodesCreated++;
+        }
+
+        /**
+         * Create a node which only marks a position in the open set.
+         */
+        private SearchNode(int estimate, long id) {
+            this.solution = null;
+            this.estimate = estimate;
+            this.depth = 0;
+            this.id = id;
+        }
+    }
+}
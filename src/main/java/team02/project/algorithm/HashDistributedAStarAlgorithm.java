@@ -0,0 +1,163 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hash-distributed A* (HDA*). Every worker thread owns a private open list and closed set. Each generated partial
+ * solution is sent to the worker which owns it, decided by the hash of its {@link team02.project.algorithm.solnspace.StateKey},
+ * so duplicates always meet in the same closed set without any locking.
+ *
+ * Since the workers expand nodes out of global best-first order, the first complete schedule found is not
+ * necessarily optimal. Complete schedules become the incumbent instead, and the search finishes once no worker holds
+ * a partial solution that could still beat it.
+ *
+ * The search can be cancelled by interrupting the calling thread, in which case the best schedule found so far is
+ * returned, and the thread is left interrupted.
+ */
+public class HashDistributedAStarAlgorithm implements SchedulingAlgorithm {
+    private static final int INITIAL_SIZE = 1000;
+    private static final long IDLE_WAIT_NANOS = 50_000;
+
+    private final SolutionSpace solutionSpace;
+    private final int parallelism;
+    private final SearchExecutor executor = new ThreadSearchExecutor("hda-worker-");
+
+    private Incumbent incumbent;
+    private Worker[] workers;
+    private Deadline stop;
+
+    /**
+     * Number of busy workers plus the number of partial solutions sent to other workers but not yet received. The
+     * search is over once this reaches zero, since only busy workers send partial solutions.
+     */
+    private AtomicInteger active;
+
+    public HashDistributedAStarAlgorithm(SolutionSpace solutionSpace) {
+        this(solutionSpace, Runtime.getRuntime().availableProcessors());
+    }
+
+    public HashDistributedAStarAlgorithm(SolutionSpace solutionSpace, int parallelism) {
+        this.solutionSpace = solutionSpace;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        incumbent = new Incumbent(new TopologicalSortAlgorithm().calculateOptimal(ctx));
+
+        // stops every worker once one of them fails, or the calling thread is interrupted
+        stop = Deadline.none().interruptible();
+
+        workers = new Worker[parallelism];
+        for(int i = 0; i < parallelism; ++i) {
+            workers[i] = new Worker();
+        }
+
+        // the root counts as a partial solution in transit until its owner picks it up
+        active = new AtomicInteger(1);
+        val root = solutionSpace.getRoot(ctx);
+        ownerOf(root).inbox.add(root);
+
+        executor.invokeAll(Arrays.asList(workers), stop);
+
+        return incumbent.getSchedule();
+    }
+
+    private Worker ownerOf(PartialSolution solution) {
+        return workers[(solution.getStateKey().hashCode() & Integer.MAX_VALUE) % workers.length];
+    }
+
+    private class Worker implements Runnable {
+        private final ConcurrentLinkedQueue<PartialSolution> inbox = new ConcurrentLinkedQueue<>();
+        private final PriorityQueue<PartialSolution> open = new PriorityQueue<>(INITIAL_SIZE,
+                Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+        private final StateTable queuedStates = solutionSpace.isTree() ? null : new StateTable(INITIAL_SIZE);
+        private boolean busy = false;
+
+        @Override
+        public void run() {
+            try {
+                search();
+            } catch (Throwable t) {
+                stop.expire();
+                throw t;
+            }
+        }
+
+        private void search() {
+            while(!stop.hasExpired()) {
+                PartialSolution received;
+                while((received = inbox.poll()) != null) {
+                    if(!busy) {
+                        active.incrementAndGet();
+                        busy = true;
+                    }
+                    enqueue(received);
+                    active.decrementAndGet();
+                }
+
+                if(busy) {
+                    val s = open.poll();
+                    if(s == null || s.getEstimatedFinishTime() >= incumbent.getBound()) {
+                        // nothing left here that could beat the incumbent
+                        open.clear();
+                        busy = false;
+                        active.decrementAndGet();
+                    } else {
+                        expand(s);
+                    }
+                } else if(active.get() == 0) {
+                    return;
+                } else {
+                    LockSupport.parkNanos(IDLE_WAIT_NANOS);
+                }
+            }
+        }
+
+        private void expand(PartialSolution s) {
+            // skip if the same state was queued again with a lower estimate; that copy is expanded instead
+            if(queuedStates != null && queuedStates.get(s.getStateKey()) < s.getEstimatedFinishTime()) {
+                return;
+            }
+
+            for(val child : s.expand(incumbent.getBound())) { // branch and bound
+                if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // a complete sibling has lowered the bound since
+                    continue;
+                }
+
+                if(child.isComplete()) {
+                    incumbent.offer(child);
+                    continue;
+                }
+
+                Worker owner = ownerOf(child);
+                if(owner == this) {
+                    enqueue(child);
+                } else {
+                    active.incrementAndGet();
+                    owner.inbox.add(child);
+                }
+            }
+        }
+
+        private void enqueue(PartialSolution s) {
+            if(s.getEstimatedFinishTime() >= incumbent.getBound()) {
+                return;
+            }
+
+            if(queuedStates == null || queuedStates.putIfLower(s.getStateKey(), s.getEstimatedFinishTime())) {
+                open.add(s);
+            }
+        }
+    }
+}
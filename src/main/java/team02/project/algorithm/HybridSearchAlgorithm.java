@@ -0,0 +1,215 @@
+package team02.project.algorithm;
+
+import com.sun.management.GcInfo;
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Starts out as {@link AStarAlgorithm}, and switches to depth-first branch and bound if the heap starts to fill up.
+ *
+ * A* finishes quickly on easy inputs, but the open set can grow without limit on hard ones. Every so often the heap
+ * usage is checked, and once the tenured generation is more than the given fraction full after garbage collection, no
+ * more partial solutions are added to the open set. Instead, the partial solutions already in it are taken out lowest
+ * estimate first, and the subtree below each is searched depth-first like {@link SequentialBranchBoundAlgorithm},
+ * which only needs memory for the current path. The estimate of the partial solution being searched is still a lower
+ * bound on every schedule left, so the search stops as soon as the best schedule found reaches it.
+ *
+ * Only usage after collection is looked at, since that is what the open set really holds; usage at any other moment
+ * also counts garbage which the next collection would free.
+ */
+public class HybridSearchAlgorithm implements AnytimeSchedulingAlgorithm {
+    private static final int INITIAL_SIZE = 1000;
+    private static final int MEMORY_CHECK_INTERVAL = 1024;
+    private static final double DEFAULT_HEAP_FRACTION = 0.7;
+
+    private final SolutionSpace solutionSpace;
+    private final double heapFraction;
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final MemoryPoolMXBean tenuredPool = findTenuredPool();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private long tenuredThreshold;
+
+    public HybridSearchAlgorithm(SolutionSpace solutionSpace) {
+        this(solutionSpace, DEFAULT_HEAP_FRACTION);
+    }
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param heapFraction the fraction of the tenured generation in use after collection at which to switch to
+     *                     depth-first search
+     */
+    public HybridSearchAlgorithm(SolutionSpace solutionSpace, double heapFraction) {
+        if(!(heapFraction > 0 && heapFraction <= 1)) {
+            throw new IllegalArgumentException("heap fraction must be in (0, 1]");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.heapFraction = heapFraction;
+    }
+
+    /**
+     * The tenured generation is the heap pool which supports a usage threshold; the pools young objects are allocated
+     * in don't, since they fill up and empty all the time.
+     * @return the tenured generation, or null if the garbage collector doesn't report one
+     */
+    private static MemoryPoolMXBean findTenuredPool() {
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if(pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported()
+                    && pool.isCollectionUsageThresholdSupported()) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        if(tenuredPool == null) {
+            return search(ctx, deadline, incumbent);
+        }
+
+        // the threshold belongs to the whole JVM, so put back whatever was there before
+        long previousThreshold = tenuredPool.getCollectionUsageThreshold();
+        long max = tenuredPool.getUsage().getMax() == -1
+                ? tenuredPool.getUsage().getCommitted()
+                : tenuredPool.getUsage().getMax();
+        tenuredThreshold = (long) (heapFraction * max);
+        tenuredPool.setCollectionUsageThreshold(tenuredThreshold);
+        try {
+            return search(ctx, deadline, incumbent);
+        } finally {
+            tenuredPool.setCollectionUsageThreshold(previousThreshold);
+        }
+    }
+
+    private SearchResult search(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        PriorityQueue<PartialSolution> scheduleQueue = new PriorityQueue<>(INITIAL_SIZE,
+                Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+        StateTable queuedStates = solutionSpace.isTree() ? null : new StateTable(INITIAL_SIZE);
+
+        PartialSolution root = solutionSpace.getRoot(ctx);
+        if(queuedStates != null) {
+            queuedStates.putIfLower(root.getStateKey(), root.getEstimatedFinishTime());
+        }
+        scheduleQueue.add(root);
+
+        // A* until the heap fills up
+        int expansions = 0;
+        while(!scheduleQueue.isEmpty()) {
+            if(deadline.hasExpired()) {
+                return new SearchResult(incumbent.getSchedule(), false);
+            }
+
+            if(++expansions % MEMORY_CHECK_INTERVAL == 0 && isHeapFull()) {
+                break;
+            }
+
+            PartialSolution s = scheduleQueue.poll();
+            if(s.getEstimatedFinishTime() >= incumbent.getBound()) {
+                // nothing left in the queue can beat the incumbent
+                return new SearchResult(incumbent.getSchedule(), true);
+            }
+
+            // skip if the same state was queued again with a lower estimate; that copy is expanded instead
+            if(queuedStates != null && queuedStates.get(s.getStateKey()) < s.getEstimatedFinishTime()) {
+                continue;
+            }
+
+            for(val child : s.expand(incumbent.getBound())) { // branch and bound
+                if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // a complete sibling has lowered the bound since
+                    continue;
+                }
+
+                if(child.isComplete()) {
+                    incumbent.offer(child);
+                } else if(queuedStates == null
+                        || queuedStates.putIfLower(child.getStateKey(), child.getEstimatedFinishTime())) {
+                    scheduleQueue.add(child);
+                }
+            }
+        }
+
+        // depth-first below each partial solution left in the queue, lowest estimate first
+        Deque<PartialSolution> stack = new ArrayDeque<>();
+        while(!scheduleQueue.isEmpty()) {
+            PartialSolution start = scheduleQueue.poll();
+            if(start.getEstimatedFinishTime() >= incumbent.getBound()) {
+                break;
+            }
+
+            stack.push(start);
+            while(!stack.isEmpty()) {
+                if(deadline.hasExpired()) {
+                    return new SearchResult(incumbent.getSchedule(), false);
+                }
+
+                val s = stack.pop();
+                if(s.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    continue;
+                }
+
+                for(val child : s.expand(incumbent.getBound())) { // branch and bound
+                    if(child.getEstimatedFinishTime() >= incumbent.getBound()) {
+                        // a complete sibling has lowered the bound since
+                        continue;
+                    }
+
+                    if(child.isComplete()) {
+                        incumbent.offer(child);
+                    } else {
+                        stack.push(child);
+                    }
+                }
+            }
+        }
+
+        return new SearchResult(incumbent.getSchedule(), true);
+    }
+
+    private boolean isHeapFull() {
+        if(tenuredPool != null) {
+            return tenuredPool.isCollectionUsageThresholdExceeded() || isTenuredFullAfterYoungCollection();
+        }
+
+        // without a tenured generation to watch, fall back to the heap as a whole
+        MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+        long max = heap.getMax() == -1 ? heap.getCommitted() : heap.getMax();
+        return heap.getUsed() >= heapFraction * max;
+    }
+
+    /**
+     * The collection usage of the tenured generation is only updated when the tenured generation itself is collected,
+     * which some collectors put off until the heap is all but full. Every young collection also leaves behind what it
+     * promoted, so look at the tenured generation after the last collection of any kind.
+     */
+    private boolean isTenuredFullAfterYoungCollection() {
+        for(GarbageCollectorMXBean collector : collectors) {
+            if(!(collector instanceof com.sun.management.GarbageCollectorMXBean)) {
+                continue;
+            }
+
+            GcInfo lastCollection = ((com.sun.management.GarbageCollectorMXBean) collector).getLastGcInfo();
+            MemoryUsage tenured = lastCollection == null
+                    ? null
+                    : lastCollection.getMemoryUsageAfterGc().get(tenuredPool.getName());
+            if(tenured != null && tenured.getUsed() >= tenuredThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
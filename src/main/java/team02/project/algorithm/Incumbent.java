@@ -0,0 +1,86 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+import team02.project.algorithm.solnspace.PartialSolution;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The best schedule found so far by a search, shared between all of its workers.
+ *
+ * The finish time of the schedule is the upper bound used for pruning. Workers should read it on every bound test,
+ * so that a better schedule found by one worker prunes subtrees on all the others straight away. New schedules are
+ * published with a compare-and-set, so concurrent improvements never overwrite a better schedule with a worse one.
+ */
+public class Incumbent {
+    private final AtomicReference<Entry> current;
+
+    /**
+     * @param initial the schedule to start with, usually a quick heuristic schedule
+     */
+    public Incumbent(Schedule initial) {
+        this.current = new AtomicReference<>(new Entry(initial.getFinishTime(), initial));
+    }
+
+    /**
+     * @return the finish time of the best schedule so far. Only partial solutions with a lower estimate are worth
+     * exploring.
+     */
+    public int getBound() {
+        return current.get().getBound();
+    }
+
+    /**
+     * @return the best schedule found so far
+     */
+    public Schedule getSchedule() {
+        return current.get().getSchedule();
+    }
+
+    /**
+     * Publish a complete solution, if it is better than the current best.
+     * @param solution the complete solution
+     * @return true if the solution became the new incumbent
+     */
+    public boolean offer(PartialSolution solution) {
+        int finishTime = solution.getEstimatedFinishTime();
+        if(finishTime >= getBound()) {
+            return false;
+        }
+
+        return publish(new Entry(finishTime, solution.makeComplete()));
+    }
+
+    /**
+     * Publish a schedule, if it is better than the current best.
+     * @param schedule the schedule
+     * @return true if the schedule became the new incumbent
+     */
+    public boolean offer(Schedule schedule) {
+        int finishTime = schedule.getFinishTime();
+        if(finishTime >= getBound()) {
+            return false;
+        }
+
+        return publish(new Entry(finishTime, schedule));
+    }
+
+    private boolean publish(Entry replacement) {
+        int finishTime = replacement.getBound();
+        Entry existing = current.get();
+        while(finishTime < existing.getBound()) {
+            if(current.compareAndSet(existing, replacement)) {
+                return true;
+            }
+            existing = current.get();
+        }
+
+        return false;
+    }
+
+    @Value
+    private static class Entry {
+        int bound;
+        Schedule schedule;
+    }
+}
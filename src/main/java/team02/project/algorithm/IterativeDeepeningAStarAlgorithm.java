@@ -0,0 +1,97 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Iterative-deepening A* (IDA*). Runs a series of depth-first searches, each of which only explores partial solutions
+ * whose estimate is within a threshold. The first threshold is the estimate of the root, and each following threshold
+ * is the lowest estimate that went over the one before it. Like {@link SequentialBranchBoundAlgorithm}, memory use is
+ * only linear in the depth of the search, but partial solutions are explored in best-first order like in
+ * {@link AStarAlgorithm}, so no effort is spent below estimates higher than the optimal finish time.
+ *
+ * The first complete schedule found is optimal, since no schedule with a lower finish time was found at any of the
+ * earlier thresholds.
+ *
+ * There is no room to remember which states have been seen, so this works best on solution spaces which are trees,
+ * such as {@link team02.project.algorithm.solnspace.ao.AOSolutionSpace}.
+ *
+ * Nothing is found until the last threshold, so a search cancelled by interrupting the calling thread returns the
+ * list schedule it started from.
+ */
+public class IterativeDeepeningAStarAlgorithm implements SchedulingAlgorithm {
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final SolutionSpace solutionSpace;
+
+    private PartialSolution found;
+    private int nextThreshold;
+    private Deadline deadline;
+
+    public IterativeDeepeningAStarAlgorithm(SolutionSpace solutionSpace) {
+        this.solutionSpace = solutionSpace;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
+        int ubound = simpleListSchedule.getFinishTime();
+
+        val root = solutionSpace.getRoot(ctx);
+        found = null;
+        deadline = Deadline.none().interruptible();
+
+        int threshold = root.getEstimatedFinishTime();
+        while(threshold < ubound) {
+            nextThreshold = NONE;
+            search(root, threshold);
+
+            if(found != null) {
+                return found.makeComplete();
+            } else if(deadline.hasExpired()) {
+                return simpleListSchedule;
+            }
+
+            threshold = nextThreshold;
+        }
+
+        // nothing can finish before the list schedule does
+        return simpleListSchedule;
+    }
+
+    /**
+     * Search depth-first below a partial solution, skipping anything with an estimate over the threshold.
+     * @return true once a complete schedule within the threshold has been found, or the deadline has expired
+     */
+    private boolean search(PartialSolution s, int threshold) {
+        if(deadline.hasExpired()) {
+            return true;
+        }
+
+        if(s.getEstimatedFinishTime() > threshold) { // bound
+            nextThreshold = Math.min(nextThreshold, s.getEstimatedFinishTime());
+            return false;
+        }
+
+        if(s.isComplete()) {
+            found = s;
+            return true;
+        }
+
+        // try the most promising children first, so the last threshold finishes as early as possible
+        List<PartialSolution> children = new ArrayList<>(s.expand()); // branch
+        children.sort(Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+        for(val child : children) {
+            if(search(child, threshold)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
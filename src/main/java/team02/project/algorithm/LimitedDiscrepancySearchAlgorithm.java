@@ -0,0 +1,132 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Limited discrepancy search. The children of each partial solution which can beat the incumbent are ranked by
+ * estimate, and following any child but the best-ranked one is a discrepancy. The first pass follows the best-ranked child all the way down, which is
+ * a greedy schedule; each following pass allows one more discrepancy on the way down, so it searches every path which
+ * departs from the ranking at most that many times.
+ *
+ * When the ranking is good, the best schedules are a few discrepancies away from the greedy one, so good incumbents
+ * turn up long before a depth-first search would reach them, however large the input. Every pass prunes with the
+ * incumbent, and after the last limited pass, a final pass with no limit searches whatever the bound hasn't ruled
+ * out, so the schedule returned is still proven optimal.
+ *
+ * Passes don't remember which paths the passes before them searched, so the paths with few discrepancies are searched
+ * again by every pass. Those are few, so the cost is small, but too many limited passes add up; they stop early if a
+ * pass finds nothing left out by its limit.
+ *
+ * Works with any solution space, such as {@link team02.project.algorithm.solnspace.ao.AOSolutionSpace} and
+ * {@link team02.project.algorithm.solnspace.els.ELSSolutionSpace}.
+ */
+public class LimitedDiscrepancySearchAlgorithm implements AnytimeSchedulingAlgorithm {
+    private static final int DEFAULT_MAX_DISCREPANCIES = 3;
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final SolutionSpace solutionSpace;
+    private final int maxDiscrepancies;
+
+    private boolean limited;
+    private int passes;
+
+    public LimitedDiscrepancySearchAlgorithm(SolutionSpace solutionSpace) {
+        this(solutionSpace, DEFAULT_MAX_DISCREPANCIES);
+    }
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param maxDiscrepancies the most discrepancies to allow before searching without a limit
+     */
+    public LimitedDiscrepancySearchAlgorithm(SolutionSpace solutionSpace, int maxDiscrepancies) {
+        this.solutionSpace = solutionSpace;
+        this.maxDiscrepancies = maxDiscrepancies;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        val root = solutionSpace.getRoot(ctx);
+        passes = 0;
+
+        for(int discrepancies = 0; discrepancies <= maxDiscrepancies; ++discrepancies) {
+            limited = false;
+            if(!search(root, discrepancies, deadline, incumbent)) {
+                return new SearchResult(incumbent.getSchedule(), false);
+            }
+
+            if(!limited) {
+                // nothing was left out, so the pass searched everything
+                return new SearchResult(incumbent.getSchedule(), true);
+            }
+        }
+
+        boolean complete = search(root, UNLIMITED, deadline, incumbent);
+        return new SearchResult(incumbent.getSchedule(), complete);
+    }
+
+    /**
+     * @return the number of passes the last search made, counting the final pass with no limit
+     */
+    int getPasses() {
+        return passes;
+    }
+
+    /**
+     * Search depth-first below the root, following at most the given number of discrepancies on any path.
+     * @return false if the deadline expired before the pass finished
+     */
+    private boolean search(PartialSolution root, int allowed, Deadline deadline, Incumbent incumbent) {
+        ++passes;
+        Deque<Entry> stack = new ArrayDeque<>();
+        stack.push(new Entry(root, 0));
+
+        while(!stack.isEmpty()) {
+            if(deadline.hasExpired()) {
+                return false;
+            }
+
+            Entry entry = stack.pop();
+            val schedule = entry.getSolution();
+            if(schedule.getEstimatedFinishTime() >= incumbent.getBound()) {
+                continue;
+            }
+
+            if(schedule.isComplete()) { // don't expand
+                incumbent.offer(schedule);
+                continue;
+            }
+
+            List<PartialSolution> children = new ArrayList<>(schedule.expand(incumbent.getBound())); // branch and bound
+            children.sort(Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+
+            // the best-ranked child is pushed last, so that it is popped first
+            for(int i = children.size() - 1; i >= 0; --i) {
+                val child = children.get(i);
+                int discrepancies = entry.getDiscrepancies() + (i == 0 ? 0 : 1);
+                if(discrepancies > allowed) {
+                    limited = true;
+                    continue;
+                }
+
+                stack.push(new Entry(child, discrepancies));
+            }
+        }
+
+        return true;
+    }
+
+    @Value
+    private static class Entry {
+        PartialSolution solution;
+        int discrepancies;
+    }
+}
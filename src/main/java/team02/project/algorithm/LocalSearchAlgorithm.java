@@ -0,0 +1,162 @@
+package team02.project.algorithm;
+
+import team02.project.graph.Node;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Heuristic local search. A schedule is described by the processor of each task and a priority order of the tasks,
+ * from which the schedule is built by placing each task, in order, as early as possible on its processor. Starting
+ * from the incumbent, the search repeatedly makes a random change to one task, either moving it to another processor
+ * or moving it elsewhere in the order, and keeps the change if the schedule finishes no later than before.
+ *
+ * This often finds good schedules quickly, but can never prove that a schedule is optimal. The search gives up once
+ * a number of changes in a row have failed to improve on the best schedule it has found.
+ */
+public class LocalSearchAlgorithm implements AnytimeSchedulingAlgorithm {
+    private static final int DEFAULT_MAX_STALLED_MOVES = 100_000;
+
+    private final int maxStalledMoves;
+    private final long seed;
+
+    public LocalSearchAlgorithm() {
+        this(DEFAULT_MAX_STALLED_MOVES, 0);
+    }
+
+    /**
+     * @param maxStalledMoves the number of changes in a row that fail to improve the schedule before giving up
+     * @param seed seed for the random changes
+     */
+    public LocalSearchAlgorithm(int maxStalledMoves, long seed) {
+        this.maxStalledMoves = maxStalledMoves;
+        this.seed = seed;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        Node[] nodes = ctx.getTaskGraph().getNodes();
+        if(nodes.length == 0) {
+            return new SearchResult(incumbent.getSchedule(), true);
+        }
+
+        Random random = new Random(seed);
+        int[] processors = new int[nodes.length];
+        List<Node> order = startingPoint(ctx, incumbent.getSchedule(), processors);
+
+        int current = finishTime(ctx, order, processors);
+        int best = current;
+        int stalled = 0;
+        while(stalled < maxStalledMoves && !deadline.hasExpired()) {
+            stalled++;
+
+            Node task = nodes[random.nextInt(nodes.length)];
+            int oldProcessor = processors[task.getIndex()];
+            int oldPosition = order.indexOf(task);
+
+            if(ctx.getProcessorCount() > 1 && random.nextBoolean()) {
+                int newProcessor = random.nextInt(ctx.getProcessorCount() - 1);
+                processors[task.getIndex()] = newProcessor >= oldProcessor ? newProcessor + 1 : newProcessor;
+            } else {
+                // the task must stay after its dependencies and before its dependents
+                order.remove(oldPosition);
+                int earliest = 0;
+                int latest = order.size();
+                for(int i = 0; i < order.size(); ++i) {
+                    if(task.getDependencies().contains(order.get(i))) {
+                        earliest = i + 1;
+                    } else if(task.getDependents().contains(order.get(i)) && latest == order.size()) {
+                        latest = i;
+                    }
+                }
+                order.add(earliest + random.nextInt(latest - earliest + 1), task);
+            }
+
+            int finishTime = finishTime(ctx, order, processors);
+            if(finishTime <= current) {
+                current = finishTime;
+                if(finishTime < best) {
+                    best = finishTime;
+                    stalled = 0;
+                    incumbent.offer(buildSchedule(ctx, order, processors));
+                }
+            } else {
+                // undo
+                processors[task.getIndex()] = oldProcessor;
+                order.remove(task);
+                order.add(oldPosition, task);
+            }
+        }
+
+        return new SearchResult(incumbent.getSchedule(), false);
+    }
+
+    /**
+     * Describe a schedule by its processors and the order of its tasks by start time.
+     * @param processors the processor of each task by index (output; this array will be written to)
+     * @return the order of the tasks
+     */
+    private List<Node> startingPoint(SchedulingContext ctx, Schedule schedule, int[] processors) {
+        int[] position = new int[processors.length];
+        Node[] nodes = ctx.getTaskGraph().getNodes();
+        for(int i = 0; i < nodes.length; ++i) {
+            position[nodes[i].getIndex()] = i;
+        }
+
+        List<ScheduledTask> tasks = new ArrayList<>(schedule.getTasks());
+        // tasks which start at the same time are ordered topologically, in case one depends on the other
+        tasks.sort(Comparator.comparingInt(ScheduledTask::getStartTime)
+                .thenComparingInt(x -> position[x.getTask().getIndex()]));
+
+        List<Node> order = new ArrayList<>(tasks.size());
+        for(ScheduledTask task : tasks) {
+            processors[task.getTask().getIndex()] = task.getProcessorId();
+            order.add(task.getTask());
+        }
+        return order;
+    }
+
+    private int finishTime(SchedulingContext ctx, List<Node> order, int[] processors) {
+        int[] finishTimes = new int[processors.length];
+        int[] processorFree = new int[ctx.getProcessorCount()];
+        int latest = 0;
+        for(Node task : order) {
+            int start = earliestStart(task, processors, finishTimes, processorFree);
+            finishTimes[task.getIndex()] = start + task.getWeight();
+            processorFree[processors[task.getIndex()]] = start + task.getWeight();
+            latest = Math.max(latest, start + task.getWeight());
+        }
+        return latest;
+    }
+
+    private Schedule buildSchedule(SchedulingContext ctx, List<Node> order, int[] processors) {
+        int[] finishTimes = new int[processors.length];
+        int[] processorFree = new int[ctx.getProcessorCount()];
+        Set<ScheduledTask> tasks = new HashSet<>();
+        for(Node task : order) {
+            int start = earliestStart(task, processors, finishTimes, processorFree);
+            finishTimes[task.getIndex()] = start + task.getWeight();
+            processorFree[processors[task.getIndex()]] = start + task.getWeight();
+            tasks.add(new ScheduledTask(processors[task.getIndex()], start, task));
+        }
+        return new Schedule(tasks);
+    }
+
+    private int earliestStart(Node task, int[] processors, int[] finishTimes, int[] processorFree) {
+        int processor = processors[task.getIndex()];
+        int start = processorFree[processor];
+        for(int i = 0; i < task.getIncomingEdgeNodes().length; ++i) {
+            Node dependency = task.getIncomingEdgeNodes()[i];
+            int ready = finishTimes[dependency.getIndex()];
+            if(processors[dependency.getIndex()] != processor) {
+                ready += task.getIncomingEdgeWeights()[i];
+            }
+            start = Math.max(start, ready);
+        }
+        return start;
+    }
+}
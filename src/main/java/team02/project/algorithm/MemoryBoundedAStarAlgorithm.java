@@ -0,0 +1,212 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+import team02.project.algorithm.solnspace.StateKey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Memory-bounded A* (SMA*). This behaves like {@link AStarAlgorithm} until the number of partial solutions held in
+ * memory reaches the node budget. From then on, the leaves with the highest estimates are forgotten to make room.
+ * Their estimates are backed up into their parents, which generate them again if the search ever returns to them.
+ *
+ * The returned schedule is still optimal, as long as the budget is large enough to hold a path from the root to a
+ * complete solution along with its siblings. A search cancelled by interrupting the calling thread returns the list
+ * schedule it started from, since the first complete schedule reached is the optimal one.
+ */
+public class MemoryBoundedAStarAlgorithm implements SchedulingAlgorithm {
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final SolutionSpace solutionSpace;
+    private final int nodeBudget;
+
+    private TreeSet<SearchNode> open;
+    private int nodesInMemory;
+    private long nodesCreated;
+    private long nodesForgotten;
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param nodeBudget the maximum number of partial solutions to hold in memory at once
+     */
+    public MemoryBoundedAStarAlgorithm(SolutionSpace solutionSpace, int nodeBudget) {
+        if(nodeBudget <= 0) {
+            throw new IllegalArgumentException("node budget must be positive");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.nodeBudget = nodeBudget;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
+        int ubound = simpleListSchedule.getFinishTime();
+
+        // lowest estimate first, breaking ties towards deeper nodes. The last node is therefore the shallowest of
+        // those with the highest estimate, which is the one SMA* forgets first.
+        open = new TreeSet<>(Comparator.<SearchNode>comparingInt(x -> x.queuedEstimate)
+                .thenComparing(Comparator.<SearchNode>comparingInt(x -> x.depth).reversed())
+                .thenComparingLong(x -> x.id));
+
+        val rootSolution = solutionSpace.getRoot(ctx);
+        nodesInMemory = 1;
+        nodesCreated = 0;
+        nodesForgotten = 0;
+        enqueue(new SearchNode(rootSolution, null, rootSolution.getEstimatedFinishTime()));
+
+        Deadline deadline = Deadline.none().interruptible();
+        while(!open.isEmpty() && !deadline.hasExpired()) {
+            SearchNode node = open.pollFirst();
+            node.inOpen = false;
+
+            if(node.solution.isComplete()) {
+                return node.solution.makeComplete();
+            }
+
+            // children regenerated after being forgotten can't be better than the best forgotten child
+            int floor = Math.max(node.estimate, node.expanded ? node.forgottenEstimate : 0);
+            Set<StateKey> liveChildren = new HashSet<>();
+            for(SearchNode child : node.children) {
+                liveChildren.add(child.solution.getStateKey());
+            }
+
+            node.expanded = true;
+            node.forgottenEstimate = NONE;
+            for(val child : node.solution.expand(ubound)) { // branch and bound
+                if(!liveChildren.isEmpty() && liveChildren.contains(child.getStateKey())) {
+                    continue;
+                }
+
+                int estimate = Math.max(floor, child.getEstimatedFinishTime());
+                if(estimate < ubound) { // bound
+                    SearchNode childNode = new SearchNode(child, node, estimate);
+                    node.children.add(childNode);
+                    nodesInMemory++;
+                    enqueue(childNode);
+                }
+            }
+
+            if(node.children.isEmpty()) {
+                removeDeadEnd(node);
+                continue;
+            }
+
+            while(nodesInMemory > nodeBudget && forgetWorstLeaf()) {
+                // keep forgetting until we are back within budget
+            }
+        }
+
+        return simpleListSchedule;
+    }
+
+    /**
+     * @return the number of partial solutions the last search forgot to stay within its budget
+     */
+    long getNodesForgotten() {
+        return nodesForgotten;
+    }
+
+    /**
+     * Forget the leaf with the highest estimate, backing its estimate up into its parent.
+     * @return false if there was no leaf that could be forgotten
+     */
+    private boolean forgetWorstLeaf() {
+        SearchNode best = open.first();
+        SearchNode victim = null;
+        for(SearchNode node : open.descendingSet()) {
+            if(node == best) {
+                break;
+            }
+
+            if(node.children.isEmpty() && node.parent != null) {
+                victim = node;
+                break;
+            }
+        }
+
+        if(victim == null) {
+            return false;
+        }
+
+        open.remove(victim);
+        victim.inOpen = false;
+        nodesInMemory--;
+        nodesForgotten++;
+
+        SearchNode parent = victim.parent;
+        parent.children.remove(victim);
+        if(victim.queuedEstimate < parent.forgottenEstimate) {
+            parent.forgottenEstimate = victim.queuedEstimate;
+
+            // the parent must be queued so the forgotten child is generated again when its turn comes
+            if(parent.inOpen) {
+                open.remove(parent);
+            }
+            parent.queuedEstimate = parent.forgottenEstimate;
+            open.add(parent);
+            parent.inOpen = true;
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove a node which has no children worth exploring, along with any ancestors left without children.
+     */
+    private void removeDeadEnd(SearchNode node) {
+        while(node.parent != null && node.children.isEmpty() && node.forgottenEstimate == NONE && !node.inOpen) {
+            nodesInMemory--;
+            node.parent.children.remove(node);
+            node = node.parent;
+        }
+    }
+
+    private void enqueue(SearchNode node) {
+        node.queuedEstimate = node.estimate;
+        open.add(node);
+        node.inOpen = true;
+    }
+
+    private class SearchNode {
+        private final PartialSolution solution;
+        private final SearchNode parent;
+        private final int depth;
+        private final long id;
+
+        /**
+         * Estimate of this node, never lower than the estimate of its parent.
+         */
+        private final int estimate;
+
+        /**
+         * The value this node is ordered by in the open set. If this node has forgotten children, this is the
+         * lowest estimate among them.
+         */
+        private int queuedEstimate;
+
+        /**
+         * Lowest estimate among children which have been forgotten, or {@link #NONE} if no children were forgotten.
+         */
+        private int forgottenEstimate = NONE;
+
+        private final List<SearchNode> children = new ArrayList<>();
+        private boolean expanded = false;
+        private boolean inOpen = false;
+
+        private SearchNode(PartialSolution solution, SearchNode parent, int estimate) {
+            this.solution = solution;
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+            this.id = nodesCreated++;
+            this.estimate = estimate;
+        }
+    }
+}
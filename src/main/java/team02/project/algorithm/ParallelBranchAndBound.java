@@ -3,99 +3,451 @@ package team02.project.algorithm;
 import lombok.val;
 import team02.project.algorithm.solnspace.PartialSolution;
 import team02.project.algorithm.solnspace.SolutionSpace;
+import team02.project.algorithm.solnspace.ao.APartialSolution;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
-import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.RecursiveAction;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
-public class ParallelBranchAndBound implements SchedulingAlgorithm {
-    private static final int SYNC_COUNT = 10000;
-    private static final int SEARCH_THRESHOLD = 10;
+/**
+ * Parallel depth-first branch and bound. Each worker thread searches depth-first out of its own
+ * {@link WorkStealingDeque}; workers that run out of work steal the shallowest partial solution from another worker.
+ *
+ * Before the workers start, the top of the solution space is expanded breadth-first until there are enough partial
+ * solutions for every worker to have several. These are handed out from a shared queue, lowest estimate first, so
+ * that every worker is busy from the start and the most promising subtrees are searched first.
+ *
+ * Workers are run by a {@link SearchExecutor}, which by default gives each worker a thread of its own.
+ *
+ * With {@link Diversification}, each worker explores children in a different {@link ChildOrder}, and restarts
+ * somewhere else if it goes too long without finding a better schedule.
+ *
+ * Progress can be saved with a {@link Checkpointer}. When a checkpoint is due, the first worker asks the others to
+ * pause between expansions, so that every partial solution is in some worker's deque or the shared queue and none are
+ * part way through being expanded or stolen, and saves all of them.
+ *
+ * With an {@link AlgorithmMonitor}, the first worker keeps the monitor up to date with the counts of all the workers.
+ */
+public class ParallelBranchAndBound implements AnytimeSchedulingAlgorithm {
+    private static final long IDLE_WAIT_NANOS = 50_000;
+    private static final int SUBPROBLEMS_PER_WORKER = 8;
+    private static final int CHECKPOINT_CHECK_INTERVAL = 1024;
+    private static final long PAUSE_WAIT_MILLIS = 10;
+    private static final int PROGRESS_INTERVAL = 1024;
 
-    private int ubound;
-    private PartialSolution best = null;
-    private SolutionSpace solutionSpace;
-    private int parallelism;
+    private Incumbent incumbent;
+    private final SolutionSpace solutionSpace;
+    private final int parallelism;
+
+    private Worker[] workers;
+    private Queue<PartialSolution> subproblems;
+
+    /**
+     * Number of workers that have no work and failed to steal any. The search is over once every worker is idle.
+     */
+    private AtomicInteger idleWorkers;
+
+    /**
+     * Number of workers that have started. Depending on the {@link SearchExecutor}, some workers may only start once
+     * others have finished, but a worker that hasn't started holds no work.
+     */
+    private AtomicInteger startedWorkers;
+    private volatile boolean finished;
+    private volatile boolean stoppedEarly;
+    private Deadline deadline;
+    private volatile Throwable failure;
+
+    private final Checkpointer checkpointer;
+    private final SearchExecutor executor;
+    private final Diversification diversification;
+    private final AlgorithmMonitor monitor;
+    private final Object pauseLock = new Object();
+    private volatile boolean pauseRequested;
+    private int pausedWorkers;
 
     public ParallelBranchAndBound(SolutionSpace solutionSpace) {
-        this.solutionSpace = solutionSpace;
-        this.parallelism = Runtime.getRuntime().availableProcessors(); // default is max
+        this(solutionSpace, Runtime.getRuntime().availableProcessors()); // default is max
     }
 
     public ParallelBranchAndBound(SolutionSpace solutionSpace, int numProcessors){
+        this(solutionSpace, numProcessors, null);
+    }
+
+    public ParallelBranchAndBound(SolutionSpace solutionSpace, int numProcessors, Checkpointer checkpointer) {
+        this(solutionSpace, numProcessors, checkpointer, new ThreadSearchExecutor("bnb-worker-"));
+    }
+
+    public ParallelBranchAndBound(SolutionSpace solutionSpace, int numProcessors, Checkpointer checkpointer,
+                                  SearchExecutor executor) {
+        this(solutionSpace, numProcessors, checkpointer, executor, null);
+    }
+
+    public ParallelBranchAndBound(SolutionSpace solutionSpace, int numProcessors, Checkpointer checkpointer,
+                                  SearchExecutor executor, Diversification diversification) {
+        this(solutionSpace, numProcessors, checkpointer, executor, diversification, null);
+    }
+
+    public ParallelBranchAndBound(SolutionSpace solutionSpace, int numProcessors, Checkpointer checkpointer,
+                                  SearchExecutor executor, Diversification diversification,
+                                  AlgorithmMonitor monitor) {
         this.solutionSpace = solutionSpace;
         this.parallelism = numProcessors;
+        this.checkpointer = checkpointer;
+        this.executor = executor;
+        this.diversification = diversification;
+        this.monitor = monitor;
     }
 
-
     @Override
-    public Schedule calculateOptimal(SchedulingContext ctx) {
-        ; // this should be passed in later
-        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
-        ubound = simpleListSchedule.getFinishTime();
-        LinkedList<PartialSolution> scheduleStack = new LinkedList<>();
-        scheduleStack.add(solutionSpace.getRoot(ctx));
-        ForkSearch fs = new ForkSearch(scheduleStack);
-        ForkJoinPool pool = new ForkJoinPool(parallelism);
-        pool.invoke(fs);
-        if (best == null) {
-            return simpleListSchedule;
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // the workers stop if the thread waiting for them is interrupted
+        this.deadline = deadline.interruptible();
+        this.incumbent = incumbent;
+        finished = false;
+        stoppedEarly = false;
+        failure = null;
+        idleWorkers = new AtomicInteger(0);
+        startedWorkers = new AtomicInteger(0);
+        pauseRequested = false;
+        pausedWorkers = 0;
+
+        workers = new Worker[parallelism];
+        for(int i = 0; i < parallelism; ++i) {
+            workers[i] = new Worker(i);
+        }
+
+        Checkpoint resumed = checkpointer == null ? null : checkpointer.start(ctx, solutionSpace.getCodec(ctx));
+        if(resumed == null) {
+            subproblems = new ConcurrentLinkedQueue<>(
+                    split(solutionSpace.getRoot(ctx), SUBPROBLEMS_PER_WORKER * parallelism, incumbent, this.deadline));
         } else {
-            return best.makeComplete();
+            resume(resumed);
+        }
+
+        if(monitor != null) {
+            monitor.setCurrentBest(incumbent.getSchedule());
         }
+
+        try {
+            executor.invokeAll(Arrays.asList(workers), this.deadline);
+
+            if(failure != null) {
+                throw new IllegalStateException("search worker failed", failure);
+            }
+
+            if(checkpointer != null) {
+                if(stoppedEarly) {
+                    // every worker has stopped, so nothing is part way through being expanded
+                    checkpointer.save(snapshot());
+                }
+                checkpointer.finish(!stoppedEarly);
+            }
+
+            if(monitor != null) {
+                publishProgress();
+                monitor.setFinished(true);
+            }
+
+            return new SearchResult(incumbent.getSchedule(), !stoppedEarly);
+        } finally {
+            // a search which was stopped early can leave a lot unsearched, which shouldn't outlive it
+            workers = null;
+            subproblems = null;
+        }
+    }
+
+    /**
+     * Update the monitor with the totals of all the workers. While the search is running, the counts of the other
+     * workers may be slightly out of date.
+     */
+    private void publishProgress() {
+        long allocationsExpanded = 0;
+        long orderingsExpanded = 0;
+        long completeSchedules = 0;
+        for(Worker worker : workers) {
+            allocationsExpanded += worker.allocationsExpanded;
+            orderingsExpanded += worker.orderingsExpanded;
+            completeSchedules += worker.completeSchedules;
+        }
+
+        monitor.setCurrentBest(incumbent.getSchedule());
+        monitor.setAllocationsExpanded(allocationsExpanded);
+        monitor.setOrderingsExpanded(orderingsExpanded);
+        monitor.setCompleteSchedules(completeSchedules);
+    }
+
+    /**
+     * Share the stacks saved in a checkpoint out between the workers.
+     */
+    private void resume(Checkpoint checkpoint) {
+        incumbent.offer(checkpoint.getIncumbent());
+        subproblems = new ConcurrentLinkedQueue<>();
+
+        List<List<PartialSolution>> stacks = checkpoint.getStacks();
+        for(int i = 0; i < stacks.size(); ++i) {
+            for(PartialSolution schedule : stacks.get(i)) {
+                workers[i % parallelism].deque.push(schedule);
+            }
+        }
+
+        workers[0].allocationsExpanded = checkpoint.getAllocationsExpanded();
+        workers[0].orderingsExpanded = checkpoint.getOrderingsExpanded();
+        workers[0].completeSchedules = checkpoint.getCompleteSchedules();
+    }
+
+    /**
+     * Copy the state of the search. Must only be called while no worker is running.
+     */
+    private Checkpoint snapshot() {
+        List<List<PartialSolution>> stacks = new ArrayList<>(parallelism + 1);
+        long allocationsExpanded = 0;
+        long orderingsExpanded = 0;
+        long completeSchedules = 0;
+        for(Worker worker : workers) {
+            stacks.add(worker.deque.toList());
+            allocationsExpanded += worker.allocationsExpanded;
+            orderingsExpanded += worker.orderingsExpanded;
+            completeSchedules += worker.completeSchedules;
+        }
+
+        // lowest estimate on top, so it is searched first
+        List<PartialSolution> queued = new ArrayList<>(subproblems);
+        Collections.reverse(queued);
+        stacks.add(queued);
+
+        return new Checkpoint(incumbent.getSchedule(), stacks, allocationsExpanded, orderingsExpanded,
+                completeSchedules);
     }
 
-    private class ForkSearch extends RecursiveAction {
-        LinkedList<PartialSolution> scheduleStack;
-        private int localBound = ubound;
-        private int syncCounter = 0;
+    /**
+     * Pause every other worker, and save a checkpoint once they have all stopped.
+     */
+    private void checkpoint() throws InterruptedException {
+        synchronized (pauseLock) {
+            pauseRequested = true;
+            try {
+                while(pausedWorkers < startedWorkers.get() - 1 && !finished) {
+                    pauseLock.wait(PAUSE_WAIT_MILLIS);
+                }
 
-        private ForkSearch(LinkedList<PartialSolution> scheduleStack) {
-            this.scheduleStack = scheduleStack;
+                if(!finished) {
+                    checkpointer.save(snapshot());
+                }
+            } finally {
+                pauseRequested = false;
+                pauseLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Wait while a checkpoint is being saved.
+     */
+    private void pause() throws InterruptedException {
+        synchronized (pauseLock) {
+            pausedWorkers++;
+            pauseLock.notifyAll();
+            while(pauseRequested) {
+                pauseLock.wait();
+            }
+            pausedWorkers--;
+        }
+    }
+
+    /**
+     * Expand the solution space breadth-first until there are enough partial solutions to share out between the
+     * workers, or there is nothing left to expand. Complete solutions found on the way are offered to the incumbent.
+     * @param wanted the number of partial solutions wanted
+     * @return the partial solutions, lowest estimate first
+     */
+    static List<PartialSolution> split(PartialSolution root, int wanted, Incumbent incumbent, Deadline deadline) {
+        Queue<PartialSolution> frontier = new LinkedList<>();
+        frontier.add(root);
+
+        while(!frontier.isEmpty() && frontier.size() < wanted && !deadline.hasExpired()) {
+            val schedule = frontier.poll();
+            if(schedule.isComplete()) {
+                incumbent.offer(schedule);
+                continue;
+            }
+
+            for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                frontier.add(child);
+            }
+        }
+
+        List<PartialSolution> sorted = new ArrayList<>(frontier);
+        sorted.sort(Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+        return sorted;
+    }
+
+    private class Worker implements Runnable {
+        private final int index;
+        private final WorkStealingDeque<PartialSolution> deque = new WorkStealingDeque<>();
+        private long allocationsExpanded;
+        private long orderingsExpanded;
+        private long completeSchedules;
+        private int iterations;
+        private int sincePublished;
+
+        private ChildOrder childOrder;
+        private Random random;
+        private long sinceImprovement;
+        private long restartBudget;
+
+        private Worker(int index) {
+            this.index = index;
+            if (diversification != null) {
+                this.childOrder = ChildOrder.values()[index % ChildOrder.values().length];
+                this.random = new Random(diversification.getSeed() + index);
+                this.restartBudget = diversification.getRestartBudget();
+            }
         }
 
         @Override
-        protected void compute() {
-            while (!scheduleStack.isEmpty()) {
-                val schedule = scheduleStack.pop();
+        public void run() {
+            startedWorkers.incrementAndGet();
+            try {
+                search();
+            } catch (Throwable t) {
+                failure = t;
+                finished = true;
+                // busy workers only check the deadline, so expire it to stop them too
+                deadline.expire();
+            }
+        }
+
+        private void search() throws InterruptedException {
+            while (true) {
+                if (deadline.hasExpired()) {
+                    stoppedEarly = true;
+                    finished = true;
+                    return;
+                }
+
+                if (monitor != null && index == 0 && ++sincePublished == PROGRESS_INTERVAL) {
+                    sincePublished = 0;
+                    publishProgress();
+                }
+
+                if (checkpointer != null) {
+                    if (index == 0 && ++iterations % CHECKPOINT_CHECK_INTERVAL == 0 && checkpointer.isDue()) {
+                        checkpoint();
+                    } else if (pauseRequested) {
+                        pause();
+                    }
+                }
+
+                PartialSolution schedule = deque.pop();
+                if (schedule == null) {
+                    schedule = stealOrFinish();
+                    if (schedule == null) {
+                        return;
+                    }
+                }
+
                 if (schedule.isComplete()) { // don't expand
-                    int estimate = schedule.getEstimatedFinishTime();
-                    if (estimate < localBound) { // update the upper bound
-                        localBound = estimate;
-                        updateBest(schedule);
+                    completeSchedules++;
+                    if (incumbent.offer(schedule)) { // update the upper bound
+                        sinceImprovement = 0;
+                    }
+                    continue;
+                }
+
+                if (schedule instanceof APartialSolution) {
+                    allocationsExpanded++;
+                } else {
+                    orderingsExpanded++;
+                }
+
+                val children = schedule.expand(incumbent.getBound()); // branch and bound
+                if (diversification == null) {
+                    for (val child : children) {
+                        deque.push(child);
                     }
                     continue;
                 }
 
-                val children = schedule.expand(); // branch
-                for (val child : children) {
-                    if (child.getEstimatedFinishTime() < localBound) { // bound
-                        scheduleStack.push(child);
+                // the child to explore first is pushed last, so that it is popped first
+                val ordered = childOrder.order(children, random);
+                for (int i = ordered.size() - 1; i >= 0; --i) {
+                    if (ordered.get(i).getEstimatedFinishTime() < incumbent.getBound()) { // bound
+                        deque.push(ordered.get(i));
                     }
                 }
 
-                if (scheduleStack.size() > SEARCH_THRESHOLD) {
-                    // if my portion of the work is to big
-                    LinkedList<PartialSolution> takeThis = new LinkedList<>();
-                    takeThis.add(scheduleStack.removeLast());
-                    invokeAll(new ForkSearch(scheduleStack), new ForkSearch(takeThis));
+                if (restartBudget > 0 && ++sinceImprovement >= restartBudget) {
+                    restart();
+                }
+            }
+        }
+
+        /**
+         * Hand all of this worker's work back to the shared queue, so that it carries on from the front of the queue.
+         * Its work is searched later, by this worker or another. The budget doubles after each restart, since the shared
+         * queue is first in, first out: restarting every few expansions would make the search breadth-first, and fill
+         * the heap.
+         */
+        private void restart() {
+            sinceImprovement = 0;
+            restartBudget *= 2;
+            for (PartialSolution schedule = deque.steal(); schedule != null; schedule = deque.steal()) {
+                subproblems.add(schedule);
+            }
+        }
+
+        /**
+         * Steal work from another worker, waiting as long as any other worker might still produce some.
+         * @return the stolen partial solution, or null if the search is finished
+         */
+        private PartialSolution stealOrFinish() throws InterruptedException {
+            PartialSolution stolen = steal();
+            while (stolen == null) {
+                // an idle worker holds no work, so once every worker that has started is idle there is none left
+                if (idleWorkers.incrementAndGet() == startedWorkers.get()) {
+                    finished = true;
+                }
+
+                if (finished) {
+                    return null;
                 }
 
-                syncCounter++;
-                if(syncCounter > SYNC_COUNT) {
-                    syncCounter = 0;
-                    localBound = ubound;
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+                if (pauseRequested) {
+                    pause();
                 }
+                idleWorkers.decrementAndGet();
+                stolen = steal();
             }
+
+            return stolen;
         }
 
-        private synchronized void updateBest(PartialSolution p) {
-            // check best again in case of multiple threads
-            val estimate = p.getEstimatedFinishTime();
-            if(estimate < ubound) {
-                ubound = estimate;
-                best = p;
+        /**
+         * Take the most promising partial solution nobody has started on yet, or else steal from another worker.
+         * @return the partial solution, or null if there is no work anywhere
+         */
+        private PartialSolution steal() {
+            PartialSolution subproblem = subproblems.poll();
+            if (subproblem != null) {
+                return subproblem;
+            }
+
+            for (int i = 1; i < workers.length; ++i) {
+                PartialSolution stolen = workers[(index + i) % workers.length].deque.steal();
+                if (stolen != null) {
+                    return stolen;
+                }
             }
+            return null;
         }
     }
 }
@@ -0,0 +1,118 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Partial-expansion A* (PEA*). When {@link AStarAlgorithm} expands a partial solution, every child goes into the open
+ * set, even though most children have estimates far above the optimal finish time and are never looked at again.
+ * Here, expanding a partial solution only queues the children with the lowest estimate. The partial solution is put
+ * back into the open set with the estimate of its next best children, and expanded again to queue those if the search
+ * ever gets to that estimate.
+ *
+ * This keeps far fewer partial solutions in memory on inputs with many processors, at the cost of expanding some
+ * partial solutions more than once. A search cancelled by interrupting the calling thread returns the list schedule
+ * it started from, since the first complete schedule reached is the optimal one.
+ */
+public class PartialExpansionAStarAlgorithm implements SchedulingAlgorithm {
+    private static final int INITIAL_SIZE = 1000;
+    private static final int NONE = Integer.MAX_VALUE;
+
+    private final SolutionSpace solutionSpace;
+    private int mostExpansions;
+
+    public PartialExpansionAStarAlgorithm(SolutionSpace solutionSpace) {
+        this.solutionSpace = solutionSpace;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
+        int ubound = simpleListSchedule.getFinishTime();
+        mostExpansions = 0;
+
+        PriorityQueue<QueuedSolution> scheduleQueue = new PriorityQueue<>(INITIAL_SIZE,
+                Comparator.comparingInt(x -> x.queuedEstimate));
+        StateTable queuedStates = solutionSpace.isTree() ? null : new StateTable(INITIAL_SIZE);
+
+        PartialSolution root = solutionSpace.getRoot(ctx);
+        if(queuedStates != null) {
+            queuedStates.putIfLower(root.getStateKey(), root.getEstimatedFinishTime());
+        }
+        scheduleQueue.add(new QueuedSolution(root, root.getEstimatedFinishTime()));
+
+        Deadline deadline = Deadline.none().interruptible();
+        while(!scheduleQueue.isEmpty() && !deadline.hasExpired()) {
+            QueuedSolution queued = scheduleQueue.poll();
+            PartialSolution s = queued.solution;
+            if(s.isComplete()) {
+                return s.makeComplete();
+            }
+
+            // skip if the same state was queued again with a lower estimate; that copy is expanded instead
+            if(queuedStates != null && queuedStates.get(s.getStateKey()) < queued.estimate) {
+                continue;
+            }
+
+            mostExpansions = Math.max(mostExpansions, ++queued.expansions);
+
+            // children below the queued estimate were queued on an earlier expansion, so only the ones at it are new
+            int nextEstimate = NONE;
+            for(val child : s.expand(ubound)) { // branch and bound
+                // a child can't finish before its parent does
+                int estimate = Math.max(queued.estimate, child.getEstimatedFinishTime());
+                if(estimate < queued.queuedEstimate) { // bound
+                    continue;
+                }
+
+                if(estimate > queued.queuedEstimate) {
+                    nextEstimate = Math.min(nextEstimate, estimate);
+                } else if(queuedStates == null || queuedStates.putIfLower(child.getStateKey(), estimate)) {
+                    scheduleQueue.add(new QueuedSolution(child, estimate));
+                }
+            }
+
+            if(nextEstimate != NONE) {
+                queued.queuedEstimate = nextEstimate;
+                scheduleQueue.add(queued);
+            }
+        }
+
+        // nothing can finish before the list schedule does, or the search was cancelled
+        return simpleListSchedule;
+    }
+
+    /**
+     * @return the most times the last search expanded any one partial solution
+     */
+    int getMostExpansions() {
+        return mostExpansions;
+    }
+
+    private static class QueuedSolution {
+        private final PartialSolution solution;
+
+        /**
+         * Estimate of the partial solution, never lower than the estimate of its parent.
+         */
+        private final int estimate;
+
+        /**
+         * The value this partial solution is ordered by in the open set: the lowest estimate among the children it
+         * has not queued yet.
+         */
+        private int queuedEstimate;
+
+        private int expansions;
+
+        private QueuedSolution(PartialSolution solution, int estimate) {
+            this.solution = solution;
+            this.estimate = estimate;
+            this.queuedEstimate = estimate;
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.algorithm.solnspace.ao.APartialSolution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Parallel depth-first branch and bound over the {@link AOSolutionSpace}, split into a pipeline along the two halves
+ * of the solution space. Allocation threads search the allocation tree, and every complete allocation they reach
+ * becomes the root of an ordering subproblem, which is put on a bounded queue. Ordering threads take the most
+ * promising subproblem off the queue and search its ordering tree.
+ *
+ * Allocations are cheap to expand but there are many of them, while each ordering subproblem can be large, so the
+ * two halves are given their own threads rather than being split up the same way. When the queue is full, the
+ * allocation threads wait for the ordering threads to catch up, so the queue stays small. All the threads share one
+ * {@link Incumbent}: subproblems are pruned when they are put on the queue, and again when they are taken off it.
+ */
+public class PipelinedBranchAndBound implements AnytimeSchedulingAlgorithm {
+    private static final int SUBPROBLEMS_PER_ALLOCATION_THREAD = 8;
+    private static final int QUEUE_CAPACITY_PER_ORDERING_THREAD = 16;
+    private static final long WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final int allocationThreads;
+    private final int orderingThreads;
+    private final int queueCapacity;
+    private final SearchExecutor executor = new ThreadSearchExecutor("pipeline-");
+
+    private volatile boolean stoppedEarly;
+
+    /**
+     * Give a quarter of the threads, and at least one, to the allocation tree.
+     * @param parallelism the total number of threads to search with
+     */
+    public PipelinedBranchAndBound(int parallelism) {
+        this(Math.max(1, parallelism / 4), Math.max(1, parallelism - Math.max(1, parallelism / 4)));
+    }
+
+    /**
+     * @param allocationThreads the number of threads to search allocations with
+     * @param orderingThreads the number of threads to search the orderings of complete allocations with
+     */
+    public PipelinedBranchAndBound(int allocationThreads, int orderingThreads) {
+        this(allocationThreads, orderingThreads, QUEUE_CAPACITY_PER_ORDERING_THREAD * orderingThreads);
+    }
+
+    /**
+     * @param queueCapacity the most ordering subproblems to queue before the allocation threads wait
+     */
+    PipelinedBranchAndBound(int allocationThreads, int orderingThreads, int queueCapacity) {
+        if(allocationThreads <= 0 || orderingThreads <= 0) {
+            throw new IllegalArgumentException("need at least one thread for each half of the pipeline");
+        }
+        if(queueCapacity <= 0) {
+            throw new IllegalArgumentException("the queue must hold at least one subproblem");
+        }
+
+        this.allocationThreads = allocationThreads;
+        this.orderingThreads = orderingThreads;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stops every thread once one of them fails
+        Deadline stop = deadline.derive();
+        stoppedEarly = false;
+
+        Queue<PartialSolution> allocations = new ConcurrentLinkedQueue<>(ParallelBranchAndBound.split(
+                new AOSolutionSpace().getRoot(ctx), SUBPROBLEMS_PER_ALLOCATION_THREAD * allocationThreads,
+                incumbent, deadline));
+        SubproblemQueue orderings = new SubproblemQueue(queueCapacity, allocationThreads);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for(int i = 0; i < allocationThreads; ++i) {
+            tasks.add(() -> {
+                try {
+                    searchAllocations(allocations, orderings, stop, incumbent);
+                } catch (Throwable t) {
+                    stop.expire();
+                    throw t;
+                } finally {
+                    orderings.producerFinished();
+                }
+            });
+        }
+        for(int i = 0; i < orderingThreads; ++i) {
+            tasks.add(() -> {
+                try {
+                    searchOrderings(orderings, stop, incumbent);
+                } catch (Throwable t) {
+                    stop.expire();
+                    throw t;
+                }
+            });
+        }
+
+        executor.invokeAll(tasks, stop);
+
+        return new SearchResult(incumbent.getSchedule(), !stoppedEarly);
+    }
+
+    /**
+     * Search the allocation trees below the shared allocations depth-first, putting the root of the ordering tree
+     * of each complete allocation on the queue.
+     */
+    private void searchAllocations(Queue<PartialSolution> allocations, SubproblemQueue orderings, Deadline stop,
+                                   Incumbent incumbent) {
+        Deque<PartialSolution> stack = new ArrayDeque<>();
+        for(PartialSolution subtree = allocations.poll(); subtree != null; subtree = allocations.poll()) {
+            stack.push(subtree);
+            while(!stack.isEmpty()) {
+                if(stop.hasExpired()) {
+                    stoppedEarly = true;
+                    return;
+                }
+
+                val schedule = stack.pop();
+                if(schedule.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    continue;
+                }
+
+                // anything past the allocation tree is for the ordering threads
+                if(!(schedule instanceof APartialSolution)) {
+                    if(!orderings.put(schedule, stop)) {
+                        stoppedEarly = true;
+                        return;
+                    }
+                    continue;
+                }
+
+                for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Search the ordering trees on the queue depth-first, until there are no more to come.
+     */
+    private void searchOrderings(SubproblemQueue orderings, Deadline stop, Incumbent incumbent) {
+        Deque<PartialSolution> stack = new ArrayDeque<>();
+        while(true) {
+            PartialSolution subproblem = orderings.take(stop);
+            if(subproblem == null) {
+                if(stop.hasExpired()) {
+                    stoppedEarly = true;
+                }
+                return;
+            }
+
+            stack.push(subproblem);
+            while(!stack.isEmpty()) {
+                if(subproblem.getEstimatedFinishTime() >= incumbent.getBound()) {
+                    // the whole subproblem is dominated by the incumbent
+                    stack.clear();
+                    break;
+                }
+
+                if(stop.hasExpired()) {
+                    stoppedEarly = true;
+                    return;
+                }
+
+                val schedule = stack.pop();
+                if(schedule.isComplete()) { // don't expand
+                    incumbent.offer(schedule); // update the upper bound
+                    continue;
+                }
+
+                for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * A bounded queue of ordering subproblems, which hands out the subproblem with the lowest estimate first. Threads
+     * waiting on the queue give up once the search is stopped.
+     */
+    private static class SubproblemQueue {
+        private final PriorityQueue<PartialSolution> queue =
+                new PriorityQueue<>(Comparator.comparingInt(PartialSolution::getEstimatedFinishTime));
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notFull = lock.newCondition();
+        private final Condition notEmpty = lock.newCondition();
+        private int producers;
+
+        private SubproblemQueue(int capacity, int producers) {
+            this.capacity = capacity;
+            this.producers = producers;
+        }
+
+        /**
+         * Add a subproblem, waiting while the queue is full.
+         * @return false if the search was stopped first
+         */
+        private boolean put(PartialSolution subproblem, Deadline stop) {
+            lock.lock();
+            try {
+                while(queue.size() >= capacity) {
+                    if(stop.hasExpired()) {
+                        return false;
+                    }
+                    notFull.awaitNanos(WAIT_NANOS);
+                }
+
+                queue.add(subproblem);
+                notEmpty.signal();
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while queueing subproblem", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Remove the subproblem with the lowest estimate, waiting while the queue is empty and more may come.
+         * @return the subproblem, or null if there are no more, or the search was stopped first
+         */
+        private PartialSolution take(Deadline stop) {
+            lock.lock();
+            try {
+                while(queue.isEmpty()) {
+                    if(producers == 0 || stop.hasExpired()) {
+                        return null;
+                    }
+                    notEmpty.awaitNanos(WAIT_NANOS);
+                }
+
+                notFull.signal();
+                return queue.poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for subproblem", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Note that one of the threads putting subproblems on the queue has finished.
+         */
+        private void producerFinished() {
+            lock.lock();
+            try {
+                producers--;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package team02.project.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs tasks on a thread pool, which can be shared between many searches running at the same time so that together
+ * they use no more threads than the pool has. Tasks wait in the pool's queue until a thread is free, so this suits
+ * searches split into many short tasks.
+ *
+ * Searches whose tasks wait for each other, like the workers of {@link ParallelBranchAndBound}, still finish when the
+ * pool has fewer threads than tasks, but only gain from as many tasks as there are threads.
+ */
+public class PooledSearchExecutor implements SearchExecutor {
+    private final ExecutorService pool;
+
+    /**
+     * @param pool the pool to run tasks on. The caller of {@link #invokeAll(List, Deadline)} must not be one of its
+     *             threads.
+     */
+    public PooledSearchExecutor(ExecutorService pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void invokeAll(List<? extends Runnable> tasks, Deadline stop) {
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for(Runnable task : tasks) {
+            futures.add(pool.submit(task));
+        }
+
+        Throwable failure = null;
+        boolean interrupted = false;
+        for(Future<?> future : futures) {
+            while(true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    // the tasks would be left running, so stop them and keep waiting
+                    interrupted = true;
+                    stop.expire();
+                } catch (ExecutionException e) {
+                    if(failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if(failure != null) {
+            throw new IllegalStateException("search task failed", failure);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.algorithm.solnspace.els.ELSSolutionSpace;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs several algorithms at once, each on its own thread, and returns as soon as any of them proves its schedule is
+ * optimal. Which algorithm is fastest depends a lot on the shape of the input graph, so this finishes in close to
+ * the time of whichever suits the input best.
+ *
+ * All the algorithms share one {@link Incumbent}, so a good schedule found by one of them prunes the search of all the
+ * others. Because of this, an algorithm which finishes its search proves that the shared incumbent is optimal, even
+ * if that schedule was found by another algorithm.
+ */
+public class PortfolioAlgorithm implements AnytimeSchedulingAlgorithm {
+    private final List<AnytimeSchedulingAlgorithm> algorithms;
+
+    private final SearchExecutor executor = new ThreadSearchExecutor("portfolio-");
+
+    private volatile boolean proven;
+
+    /**
+     * @param algorithms the algorithms to run
+     */
+    public PortfolioAlgorithm(List<AnytimeSchedulingAlgorithm> algorithms) {
+        if(algorithms.isEmpty()) {
+            throw new IllegalArgumentException("portfolio needs at least one algorithm");
+        }
+
+        this.algorithms = new ArrayList<>(algorithms);
+    }
+
+    /**
+     * Create a portfolio of depth-first branch and bound over both the AO and ELS solution spaces, A* over the AO
+     * solution space, and local search.
+     * @return the portfolio
+     */
+    public static PortfolioAlgorithm standard() {
+        return new PortfolioAlgorithm(Arrays.asList(
+                new SequentialBranchBoundAlgorithm(new AOSolutionSpace()),
+                new SequentialBranchBoundAlgorithm(new ELSSolutionSpace()),
+                new AStarAlgorithm(new AOSolutionSpace()),
+                new LocalSearchAlgorithm()));
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stops the other algorithms once one has finished
+        Deadline stop = deadline.derive();
+        proven = false;
+
+        List<Runnable> tasks = new ArrayList<>(algorithms.size());
+        for(AnytimeSchedulingAlgorithm algorithm : algorithms) {
+            tasks.add(() -> {
+                try {
+                    if(algorithm.calculate(ctx, stop, incumbent).isOptimal()) {
+                        proven = true;
+                        stop.expire();
+                    }
+                } catch (Throwable t) {
+                    stop.expire();
+                    throw t;
+                }
+            });
+        }
+
+        executor.invokeAll(tasks, stop);
+
+        return new SearchResult(incumbent.getSchedule(), proven);
+    }
+}
@@ -0,0 +1,165 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a depth-first branch and bound while estimating how much of it is done, and how long is left.
+ *
+ * On a background thread, a {@link TreeSizeEstimator} samples the solution space with the bound of the running
+ * search. The estimated size of the tree, the fraction of it the search has visited and the time left at the rate it
+ * has been going are published to the {@link AlgorithmMonitor}. The search must count the partial solutions it
+ * visits in the same monitor.
+ *
+ * The estimate only runs for a short time in each period, so it takes little time away from the search. It is rough:
+ * the search visits more than the estimated tree until it finds a good bound, and the time per partial solution
+ * varies between parts of the tree. It is best used to tell searches which will take seconds from ones which will
+ * take days.
+ */
+public class ProgressEstimator implements AnytimeSchedulingAlgorithm {
+    private static final long PROBE_MILLIS = 50;
+    private static final long PAUSE_MILLIS = 450;
+    private static final double MAX_UNFINISHED_FRACTION = 0.99;
+    private static final long SEED = 1;
+
+    private final AnytimeSchedulingAlgorithm search;
+    private final SolutionSpace solutionSpace;
+    private final AlgorithmMonitor monitor;
+
+    private volatile boolean finished;
+
+    /**
+     * @param search the search to estimate the progress of, which counts what it visits in the monitor
+     * @param solutionSpace the solution space the search runs over
+     * @param monitor the monitor the search updates, and the estimate is published to
+     */
+    public ProgressEstimator(AnytimeSchedulingAlgorithm search, SolutionSpace solutionSpace,
+                             AlgorithmMonitor monitor) {
+        this.search = search;
+        this.solutionSpace = solutionSpace;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        finished = false;
+        monitor.setEstimatedTotalNodes(0);
+        monitor.setFractionComplete(0);
+        monitor.setEstimatedRemainingMillis(AlgorithmMonitor.UNKNOWN_TIME);
+
+        Thread estimator = new Thread(() -> estimate(ctx, incumbent), "tree-size-estimator");
+        estimator.setDaemon(true);
+        estimator.start();
+
+        SearchResult result;
+        try {
+            result = search.calculate(ctx, deadline, incumbent);
+        } finally {
+            finished = true;
+            estimator.interrupt();
+            try {
+                estimator.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if(result.isOptimal()) {
+            monitor.setFractionComplete(1);
+            monitor.setEstimatedRemainingMillis(0);
+        }
+        return result;
+    }
+
+    private void estimate(SchedulingContext ctx, Incumbent incumbent) {
+        TreeSizeEstimator estimator = new TreeSizeEstimator(solutionSpace.getRoot(ctx), SEED);
+        long start = System.nanoTime();
+
+        while(!finished) {
+            long probeEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PROBE_MILLIS);
+            do {
+                estimator.probe(incumbent.getBound());
+            } while(System.nanoTime() < probeEnd && !finished);
+
+            publish(estimator.getEstimate(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+            try {
+                Thread.sleep(PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void publish(double estimatedTotal, long elapsedMillis) {
+        long visited = monitor.getAllocationsExpanded() + monitor.getOrderingsExpanded()
+                + monitor.getCompleteSchedules();
+        if(finished) {
+            return;
+        }
+
+        monitor.setEstimatedTotalNodes((long) estimatedTotal);
+        monitor.setFractionComplete(Math.min(visited / estimatedTotal, MAX_UNFINISHED_FRACTION));
+
+        // once the search has visited more than the estimate, there is no telling how much is left
+        if(visited == 0 || visited >= estimatedTotal) {
+            monitor.setEstimatedRemainingMillis(AlgorithmMonitor.UNKNOWN_TIME);
+        } else {
+            monitor.setEstimatedRemainingMillis((long) (elapsedMillis * (estimatedTotal - visited) / visited));
+        }
+    }
+
+    /**
+     * Describe the estimated progress of a search for the user.
+     * @param monitor the monitor of the search
+     * @return the description
+     */
+    public static String describe(AlgorithmMonitor monitor) {
+        if(monitor.isFinished()) {
+            return "Finished";
+        } else if(monitor.getEstimatedTotalNodes() == 0) {
+            return "Estimating...";
+        }
+
+        String description = String.format("%.1f%% of about %s partial schedules searched",
+                monitor.getFractionComplete() * 100, abbreviate(monitor.getEstimatedTotalNodes()));
+        if(monitor.getEstimatedRemainingMillis() == AlgorithmMonitor.UNKNOWN_TIME) {
+            return description + ", time left unknown";
+        }
+        return description + ", about " + formatDuration(monitor.getEstimatedRemainingMillis()) + " left";
+    }
+
+    private static String abbreviate(long count) {
+        String[] suffixes = {"", "thousand", "million", "billion", "trillion"};
+        double value = count;
+        int suffix = 0;
+        while(value >= 1000 && suffix < suffixes.length - 1) {
+            value /= 1000;
+            suffix++;
+        }
+
+        if(suffix == 0) {
+            return Long.toString(count);
+        } else if(value >= 1000) {
+            return String.format("%.1e", (double) count);
+        }
+        return String.format("%.1f %s", value, suffixes[suffix]);
+    }
+
+    private static String formatDuration(long millis) {
+        long seconds = TimeUnit.MILLISECONDS.toSeconds(millis);
+        long minutes = TimeUnit.MILLISECONDS.toMinutes(millis);
+        long hours = TimeUnit.MILLISECONDS.toHours(millis);
+        long days = TimeUnit.MILLISECONDS.toDays(millis);
+
+        if(days > 0) {
+            return days + "d " + (hours % 24) + "h";
+        } else if(hours > 0) {
+            return hours + "h " + (minutes % 60) + "m";
+        } else if(minutes > 0) {
+            return minutes + "m " + (seconds % 60) + "s";
+        }
+        return seconds + "s";
+    }
+}
@@ -0,0 +1,119 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.List;
+
+/**
+ * Recursive best-first search (RBFS). Explores partial solutions in the same best-first order as
+ * {@link AStarAlgorithm}, but like {@link SequentialBranchBoundAlgorithm} only keeps the current path in memory,
+ * along with the children of each partial solution on it.
+ *
+ * Each level of the recursion searches below its most promising child only until that child's subtree looks worse
+ * than the next best alternative anywhere on the path. It then backs up, remembering the lowest estimate it found
+ * below the child as the child's value, and moves on to the new best child. When the search comes back to a child,
+ * its remembered value lets it pick up where it left off in best-first order. Unlike
+ * {@link IterativeDeepeningAStarAlgorithm}, which starts again from the root for every threshold, only the subtrees
+ * which are being switched between are expanded again.
+ *
+ * The first complete schedule reached is optimal, since every other partial solution had an estimate at least as
+ * high. Partial solutions that can't beat a simple list schedule are never explored.
+ *
+ * There is no room to remember which states have been seen, so this works best on solution spaces which are trees,
+ * such as {@link team02.project.algorithm.solnspace.ao.AOSolutionSpace}.
+ *
+ * Nothing is found before the optimal schedule, so a search cancelled by interrupting the calling thread returns the
+ * list schedule it started from.
+ */
+public class RecursiveBestFirstSearchAlgorithm implements SchedulingAlgorithm {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final SolutionSpace solutionSpace;
+
+    private PartialSolution found;
+    private int upperBound;
+    private Deadline deadline;
+
+    public RecursiveBestFirstSearchAlgorithm(SolutionSpace solutionSpace) {
+        this.solutionSpace = solutionSpace;
+    }
+
+    @Override
+    public Schedule calculateOptimal(SchedulingContext ctx) {
+        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
+        upperBound = simpleListSchedule.getFinishTime();
+
+        val root = solutionSpace.getRoot(ctx);
+        found = null;
+        deadline = Deadline.none().interruptible();
+        search(root, root.getEstimatedFinishTime(), INFINITY);
+
+        if(found != null) {
+            return found.makeComplete();
+        }
+
+        // nothing can finish before the list schedule does
+        return simpleListSchedule;
+    }
+
+    /**
+     * Search best-first below a partial solution, until a complete schedule is found or everything left below it
+     * looks worse than the limit.
+     * @param s the partial solution
+     * @param value the value of the partial solution, which is higher than its estimate if its subtree has been
+     *              searched before
+     * @param limit the value of the best alternative to this partial solution elsewhere in the search
+     * @return the new value of the partial solution: the lowest value left below it, or {@link #INFINITY} if there is
+     * nothing left below it which could beat the upper bound or the deadline has expired
+     */
+    private int search(PartialSolution s, int value, int limit) {
+        if(deadline.hasExpired()) {
+            return INFINITY;
+        }
+
+        if(s.isComplete()) {
+            found = s;
+            return value;
+        }
+
+        List<PartialSolution> children = s.expand(upperBound); // branch and bound
+
+        if(children.isEmpty()) {
+            return INFINITY;
+        }
+
+        // children of a partial solution that has been searched before can't be lower than what was found below it
+        int[] values = new int[children.size()];
+        for(int i = 0; i < values.length; ++i) {
+            int estimate = children.get(i).getEstimatedFinishTime();
+            values[i] = value > s.getEstimatedFinishTime() ? Math.max(value, estimate) : estimate;
+        }
+
+        while(true) {
+            int best = 0;
+            for(int i = 1; i < values.length; ++i) {
+                if(values[i] < values[best]) {
+                    best = i;
+                }
+            }
+
+            int alternative = INFINITY;
+            for(int i = 0; i < values.length; ++i) {
+                if(i != best && values[i] < alternative) {
+                    alternative = values[i];
+                }
+            }
+
+            if(values[best] > limit || values[best] == INFINITY) {
+                return values[best];
+            }
+
+            values[best] = search(children.get(best), values[best], Math.min(limit, alternative));
+            if(found != null || deadline.hasExpired()) {
+                return values[best];
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package team02.project.algorithm;
+
+import java.util.List;
+
+/**
+ * Runs the concurrent tasks of a parallel search. Searches hand over all of their tasks at once and get control back
+ * only once every task has finished, so no task outlives the search that started it.
+ *
+ * Tasks are cancelled cooperatively: a search gives its tasks a {@link Deadline} to check, and expires it to cancel
+ * them. The executor expires it too if the thread waiting for the tasks is interrupted.
+ */
+public interface SearchExecutor {
+    /**
+     * Run tasks concurrently, and wait for all of them to finish. If the waiting thread is interrupted, the tasks are
+     * stopped and waited for, rather than being left running, and the thread is left interrupted.
+     * @param tasks the tasks to run
+     * @param stop the deadline the tasks check, which is expired to stop them if the waiting thread is interrupted
+     * @throws IllegalStateException if any of the tasks failed, once all of them have finished
+     */
+    void invokeAll(List<? extends Runnable> tasks, Deadline stop);
+}
@@ -0,0 +1,19 @@
+package team02.project.algorithm;
+
+import lombok.Value;
+
+/**
+ * The outcome of a search that may have been stopped early by a {@link Deadline}.
+ */
+@Value
+public class SearchResult {
+    /**
+     * The best schedule found.
+     */
+    Schedule schedule;
+
+    /**
+     * True if the search ran to completion, proving that the schedule is optimal.
+     */
+    boolean optimal;
+}
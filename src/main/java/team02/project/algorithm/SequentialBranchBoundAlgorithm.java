@@ -5,16 +5,22 @@ import team02.project.algorithm.solnspace.PartialSolution;
 import team02.project.algorithm.solnspace.SolutionSpace;
 import team02.project.algorithm.solnspace.ao.APartialSolution;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 
 /**
  * Bounds any complete schedules which exceed the current upper bound
- * This algorithm supports visualization.
+ * This algorithm supports visualization, and can save its progress with a {@link Checkpointer}.
  */
-public class SequentialBranchBoundAlgorithm implements SchedulingAlgorithm {
+public class SequentialBranchBoundAlgorithm implements AnytimeSchedulingAlgorithm {
+
+    private static final int CHECKPOINT_CHECK_INTERVAL = 1024;
 
     private SolutionSpace solutionSpace;
     private AlgorithmMonitor monitor = null;
+    private Checkpointer checkpointer = null;
 
     public SequentialBranchBoundAlgorithm(SolutionSpace solutionSpace) {
         this.solutionSpace = solutionSpace;
@@ -25,50 +31,71 @@ public class SequentialBranchBoundAlgorithm implements SchedulingAlgorithm {
         this.monitor = monitor;
     }
 
-    @Override
-    public Schedule calculateOptimal(SchedulingContext ctx) {
-        Schedule simpleListSchedule = new TopologicalSortAlgorithm().calculateOptimal(ctx);
-        int ubound = simpleListSchedule.getFinishTime();
-        PartialSolution best = null;
-
-        if(monitor != null) {
-            monitor.setCurrentBest(simpleListSchedule);
-        }
+    public SequentialBranchBoundAlgorithm(SolutionSpace solutionSpace, AlgorithmMonitor monitor,
+                                          Checkpointer checkpointer) {
+        this.solutionSpace = solutionSpace;
+        this.monitor = monitor;
+        this.checkpointer = checkpointer;
+    }
 
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stop if the calling thread is interrupted
+        deadline = deadline.interruptible();
         long schedulesCreated = 0;
         long allocationsExpanded = 0;
         long orderingsExpanded = 0;
 
         LinkedList<PartialSolution> scheduleStack = new LinkedList<>();
-        scheduleStack.add(solutionSpace.getRoot(ctx));
+        Checkpoint resumed = checkpointer == null ? null : checkpointer.start(ctx, solutionSpace.getCodec(ctx));
+        if(resumed == null) {
+            scheduleStack.add(solutionSpace.getRoot(ctx));
+        } else {
+            incumbent.offer(resumed.getIncumbent());
+            schedulesCreated = resumed.getCompleteSchedules();
+            allocationsExpanded = resumed.getAllocationsExpanded();
+            orderingsExpanded = resumed.getOrderingsExpanded();
+            for(List<PartialSolution> stack : resumed.getStacks()) {
+                for(PartialSolution schedule : stack) {
+                    scheduleStack.push(schedule);
+                }
+            }
+        }
+
+        if(monitor != null) {
+            monitor.setCurrentBest(incumbent.getSchedule());
+        }
+
+        boolean stoppedEarly = false;
+        int iterations = 0;
         while(!scheduleStack.isEmpty()) {
+            if(deadline.hasExpired()) {
+                stoppedEarly = true;
+                break;
+            }
+
+            if(checkpointer != null && ++iterations % CHECKPOINT_CHECK_INTERVAL == 0 && checkpointer.isDue()) {
+                checkpointer.save(new Checkpoint(incumbent.getSchedule(), snapshot(scheduleStack),
+                        allocationsExpanded, orderingsExpanded, schedulesCreated));
+            }
+
             val schedule = scheduleStack.pop();
             if (schedule.isComplete()) { // don't expand
                 schedulesCreated++;
-                val estimate = schedule.getEstimatedFinishTime();
-                if(estimate < ubound) { // update the upper bound
-                    best = schedule;
-                    if(monitor != null){
-                        monitor.setCurrentBest(best.makeComplete());
-                    }
-                    ubound = estimate;
+                if(incumbent.offer(schedule) && monitor != null) { // update the upper bound
+                    monitor.setCurrentBest(incumbent.getSchedule());
                 }
                 continue;
             }
 
-            if (monitor != null) {
-                if (schedule instanceof APartialSolution) {
-                    allocationsExpanded++;
-                } else {
-                    orderingsExpanded++;
-                }
+            if (schedule instanceof APartialSolution) {
+                allocationsExpanded++;
+            } else {
+                orderingsExpanded++;
             }
 
-            val children = schedule.expand(); // branch
-            for(val child : children) {
-                if(child.getEstimatedFinishTime() < ubound) { // bound
-                    scheduleStack.push(child);
-                }
+            for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                scheduleStack.push(child);
             }
 
             if (monitor !=  null) {
@@ -78,14 +105,27 @@ public class SequentialBranchBoundAlgorithm implements SchedulingAlgorithm {
             }
         }
 
+        if(checkpointer != null) {
+            if(stoppedEarly) {
+                checkpointer.save(new Checkpoint(incumbent.getSchedule(), snapshot(scheduleStack),
+                        allocationsExpanded, orderingsExpanded, schedulesCreated));
+            }
+            checkpointer.finish(!stoppedEarly);
+        }
+
         if(monitor != null) {
             monitor.setFinished(true);
         }
 
-        if(best == null) {
-            return simpleListSchedule;
-        }
+        return new SearchResult(incumbent.getSchedule(), !stoppedEarly);
+    }
 
-        return best.makeComplete();
+    /**
+     * @return the partial solutions on the stack, from the bottom to the top
+     */
+    private static List<List<PartialSolution>> snapshot(LinkedList<PartialSolution> scheduleStack) {
+        List<PartialSolution> stack = new ArrayList<>(scheduleStack.size());
+        scheduleStack.descendingIterator().forEachRemaining(stack::add);
+        return Collections.singletonList(stack);
     }
 }
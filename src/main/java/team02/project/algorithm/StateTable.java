@@ -0,0 +1,99 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.StateKey;
+
+/**
+ * An open-addressing hash table from {@link StateKey} to an int value, used as the closed set of the best-first
+ * searches. Values are stored unboxed in a parallel array, so each entry costs one reference and one int on top of
+ * the key itself.
+ */
+public class StateTable {
+    /**
+     * Returned by {@link #get(StateKey)} for keys that are not in the table.
+     */
+    public static final int ABSENT = Integer.MIN_VALUE;
+
+    private StateKey[] keys;
+    private int[] values;
+    private int size = 0;
+
+    public StateTable(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new StateKey[capacity];
+        values = new int[capacity];
+    }
+
+    /**
+     * Look up the value stored for the given key.
+     * @param key the key to look up
+     * @return the stored value, or {@link #ABSENT} if the key is not in the table
+     */
+    public int get(StateKey key) {
+        int mask = keys.length - 1;
+        for (int i = key.hashCode() & mask; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) {
+                return values[i];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Store the given value for the key if the key is not yet in the table, or if the value is lower than the
+     * currently stored value.
+     * @param key the key to store
+     * @param value the value to store
+     * @return true if the value was stored, false if an equal or lower value was already present
+     */
+    public boolean putIfLower(StateKey key, int value) {
+        int mask = keys.length - 1;
+        int i = key.hashCode() & mask;
+        for (; keys[i] != null; i = (i + 1) & mask) {
+            if (keys[i].equals(key)) {
+                if (value < values[i]) {
+                    values[i] = value;
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of keys in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        StateKey[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new StateKey[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; ++j) {
+            if (oldKeys[j] == null) {
+                continue;
+            }
+
+            int i = oldKeys[j].hashCode() & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = oldKeys[j];
+            values[i] = oldValues[j];
+        }
+    }
+}
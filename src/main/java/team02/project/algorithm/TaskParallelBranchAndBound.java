@@ -0,0 +1,127 @@
+package team02.project.algorithm;
+
+import lombok.val;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.SolutionSpace;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parallel depth-first branch and bound with one task per subtree. The top of the solution space is split up
+ * breadth-first in the same way as {@link ParallelBranchAndBound}, and the subtree below each partial solution is
+ * searched depth-first by a task of its own, run by a {@link SearchExecutor}. Comparing this with
+ * {@link ParallelBranchAndBound} on the same executor compares work stealing with plain task scheduling on the same
+ * subproblems.
+ *
+ * There is no work stealing, so there are many more subtrees than threads, to even out their different sizes. Once
+ * the estimate of the partial solution at the top of a subtree reaches the incumbent, nothing in the subtree can
+ * improve on it, so its task stops straight away, however much of the subtree it has left.
+ */
+public class TaskParallelBranchAndBound implements AnytimeSchedulingAlgorithm {
+    private static final int SUBTREES_PER_THREAD = 64;
+
+    private final SolutionSpace solutionSpace;
+    private final int subtrees;
+    private final int parallelism;
+    private final SearchExecutor executor;
+
+    private volatile boolean stoppedEarly;
+
+    public TaskParallelBranchAndBound(SolutionSpace solutionSpace) {
+        this(solutionSpace, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Search on a thread pool of its own, which only lasts as long as each search.
+     * @param solutionSpace the solution space to search
+     * @param parallelism the number of threads to search with
+     */
+    public TaskParallelBranchAndBound(SolutionSpace solutionSpace, int parallelism) {
+        this.solutionSpace = solutionSpace;
+        this.subtrees = SUBTREES_PER_THREAD * parallelism;
+        this.parallelism = parallelism;
+        this.executor = null;
+    }
+
+    /**
+     * @param solutionSpace the solution space to search
+     * @param subtrees the number of subtrees to split the search into
+     * @param executor the executor to run the search of each subtree on, which may be shared with other searches
+     */
+    public TaskParallelBranchAndBound(SolutionSpace solutionSpace, int subtrees, SearchExecutor executor) {
+        if(subtrees <= 0) {
+            throw new IllegalArgumentException("must split the search into at least one subtree");
+        }
+
+        this.solutionSpace = solutionSpace;
+        this.subtrees = subtrees;
+        this.parallelism = 0;
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public SearchResult calculate(SchedulingContext ctx, Deadline deadline, Incumbent incumbent) {
+        // stops every task once one of them fails
+        Deadline stop = deadline.derive();
+        stoppedEarly = false;
+
+        List<Runnable> tasks = new ArrayList<>();
+        for(PartialSolution subtree : ParallelBranchAndBound.split(solutionSpace.getRoot(ctx), subtrees,
+                incumbent, deadline)) {
+            tasks.add(() -> {
+                try {
+                    search(subtree, stop, incumbent);
+                } catch (Throwable t) {
+                    stop.expire();
+                    throw t;
+                }
+            });
+        }
+
+        if(executor != null) {
+            executor.invokeAll(tasks, stop);
+        } else {
+            ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+            try {
+                new PooledSearchExecutor(pool).invokeAll(tasks, stop);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        return new SearchResult(incumbent.getSchedule(), !stoppedEarly);
+    }
+
+    private void search(PartialSolution subtree, Deadline stop, Incumbent incumbent) {
+        Deque<PartialSolution> stack = new ArrayDeque<>();
+        stack.push(subtree);
+
+        while(!stack.isEmpty()) {
+            if(subtree.getEstimatedFinishTime() >= incumbent.getBound()) {
+                // the whole subtree is dominated by the incumbent
+                return;
+            }
+
+            if(stop.hasExpired()) {
+                stoppedEarly = true;
+                return;
+            }
+
+            val schedule = stack.pop();
+            if(schedule.isComplete()) { // don't expand
+                incumbent.offer(schedule); // update the upper bound
+                continue;
+            }
+
+            for(val child : schedule.expand(incumbent.getBound())) { // branch and bound
+                stack.push(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package team02.project.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs every task on a new thread of its own. This suits searches with a few long-running tasks, such as one per core.
+ */
+public class ThreadSearchExecutor implements SearchExecutor {
+    private final String namePrefix;
+
+    public ThreadSearchExecutor() {
+        this("search-task-");
+    }
+
+    /**
+     * @param namePrefix the start of the name of each thread, which is followed by the index of its task
+     */
+    public ThreadSearchExecutor(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public void invokeAll(List<? extends Runnable> tasks, Deadline stop) {
+        List<Throwable> failures = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>(tasks.size());
+        for(Runnable task : tasks) {
+            Thread thread = new Thread(task, namePrefix + threads.size());
+            thread.setUncaughtExceptionHandler((t, e) -> {
+                synchronized (failures) {
+                    failures.add(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        boolean interrupted = false;
+        for(Thread thread : threads) {
+            while(thread.isAlive()) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    // the tasks would be left running, so stop them and keep waiting
+                    interrupted = true;
+                    stop.expire();
+                }
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (failures) {
+            if(!failures.isEmpty()) {
+                throw new IllegalStateException("search task failed", failures.get(0));
+            }
+        }
+    }
+}
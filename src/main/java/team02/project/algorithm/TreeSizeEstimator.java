@@ -0,0 +1,79 @@
+package team02.project.algorithm;
+
+import team02.project.algorithm.solnspace.PartialSolution;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Estimates the number of partial solutions a depth-first branch and bound visits, without searching, using Knuth's
+ * method: follow a random path from the root down to a leaf, and at each level assume every partial solution has as
+ * many children as the one on the path. Averaged over many paths, this gives an unbiased estimate of the size of the
+ * tree.
+ *
+ * Children are pruned with the same bound as the search, so the estimate is of the tree the search would visit if it
+ * had known the bound from the start. When the bound is lowered, the tree shrinks, so paths sampled with the old bound
+ * are thrown away.
+ */
+public class TreeSizeEstimator {
+    private final PartialSolution root;
+    private final Random random;
+
+    private int bound = Integer.MAX_VALUE;
+    private double totalNodes;
+    private long probes;
+
+    /**
+     * @param root the root of the solution space to estimate the size of
+     * @param seed the seed for choosing the paths
+     */
+    public TreeSizeEstimator(PartialSolution root, long seed) {
+        this.root = root;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Follow one random path to add to the estimate.
+     * @param bound the finish time of the best schedule known, which partial solutions must beat to be visited
+     */
+    public void probe(int bound) {
+        if(bound != this.bound) {
+            this.bound = bound;
+            totalNodes = 0;
+            probes = 0;
+        }
+
+        double nodes = 1;
+        double width = 1;
+        PartialSolution current = root;
+        while(!current.isComplete()) {
+            List<PartialSolution> children = current.expand(bound); // branch and bound
+
+            if(children.isEmpty()) {
+                break;
+            }
+
+            width *= children.size();
+            nodes += width;
+            current = children.get(random.nextInt(children.size()));
+        }
+
+        totalNodes += nodes;
+        probes++;
+    }
+
+    /**
+     * @return the number of paths the current estimate is based on
+     */
+    public long getProbes() {
+        return probes;
+    }
+
+    /**
+     * @return the estimated number of partial solutions visited, including complete ones, or 0 if there is no
+     * estimate yet
+     */
+    public double getEstimate() {
+        return probes == 0 ? 0 : totalNodes / probes;
+    }
+}
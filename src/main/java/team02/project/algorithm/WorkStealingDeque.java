@@ -0,0 +1,91 @@
+package team02.project.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An array-backed double-ended queue for work-stealing search. The owning worker pushes and pops at the bottom, so it
+ * explores its own work depth-first. Other workers steal from the top, where the oldest and therefore shallowest
+ * items (the ones with the largest subtrees underneath them) are found.
+ *
+ * @param <T> type of the items in the deque
+ */
+public class WorkStealingDeque<T> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] items = new Object[INITIAL_CAPACITY];
+    private int top = 0;
+    private int size = 0;
+
+    /**
+     * Push an item onto the bottom of the deque. Should only be called by the owner.
+     * @param item the item to push
+     */
+    public synchronized void push(T item) {
+        if(size == items.length) {
+            grow();
+        }
+
+        items[(top + size) & (items.length - 1)] = item;
+        size++;
+    }
+
+    /**
+     * Remove the item at the bottom of the deque, i.e. the one most recently pushed. Should only be called by the owner.
+     * @return the removed item, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T pop() {
+        if(size == 0) {
+            return null;
+        }
+
+        size--;
+        int index = (top + size) & (items.length - 1);
+        T item = (T) items[index];
+        items[index] = null;
+        return item;
+    }
+
+    /**
+     * Remove the item at the top of the deque, i.e. the oldest one. Called by workers other than the owner.
+     * @return the stolen item, or null if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized T steal() {
+        if(size == 0) {
+            return null;
+        }
+
+        T item = (T) items[top];
+        items[top] = null;
+        top = (top + 1) & (items.length - 1);
+        size--;
+        return item;
+    }
+
+    /**
+     * @return the items in the deque, from the top (the oldest) to the bottom (the most recently pushed)
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> toList() {
+        List<T> list = new ArrayList<>(size);
+        for(int i = 0; i < size; ++i) {
+            list.add((T) items[(top + i) & (items.length - 1)]);
+        }
+        return list;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void grow() {
+        Object[] newItems = new Object[items.length * 2];
+        for(int i = 0; i < size; ++i) {
+            newItems[i] = items[(top + i) & (items.length - 1)];
+        }
+        items = newItems;
+        top = 0;
+    }
+}
@@ -2,6 +2,8 @@ package team02.project.algorithm.solnspace;
 
 import team02.project.algorithm.Schedule;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -23,6 +25,23 @@ public interface PartialSolution {
      */
     Set<PartialSolution> expand();
 
+    /**
+     * Expands this PartialSolution, leaving out any children which can't beat the bound. Solution spaces can override
+     * this to work out the estimates of all the children before creating any of them, so that children which would
+     * only be pruned are never created.
+     * @param bound the finish time the estimate of each child must be below
+     * @return children partial solutions with an estimated finish time below the bound
+     */
+    default List<PartialSolution> expand(int bound) {
+        List<PartialSolution> output = new ArrayList<>();
+        for (PartialSolution child : expand()) {
+            if (child.getEstimatedFinishTime() < bound) {
+                output.add(child);
+            }
+        }
+        return output;
+    }
+
     /**
      * Determines whether this PartialSolution represents a complete solution to the problem
      * @return true if this is a complete solution; false otherwise
@@ -36,4 +55,12 @@ public interface PartialSolution {
      * @throws UnsupportedOperationException if this PartialSolution is not a complete solution and thus no complete schedule can be made
      */
     Schedule makeComplete();
+
+    /**
+     * Computes a key identifying the search state this PartialSolution represents. If two PartialSolutions have equal
+     * keys, then they have the same children and complete solutions, so a search may discard either of them. The
+     * estimated finish time may still differ between them, since it can depend on the path taken to reach the state.
+     * @return the state key
+     */
+    StateKey getStateKey();
 }
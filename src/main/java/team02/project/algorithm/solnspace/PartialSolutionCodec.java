@@ -0,0 +1,32 @@
+package team02.project.algorithm.solnspace;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts the partial solutions of one instance of a solution space to and from a compact binary form, so that they
+ * can be written out of memory, e.g. to disk, and rebuilt later.
+ *
+ * Two partial solutions representing the same state encode to the same bytes, so duplicates can be found by
+ * comparing encodings without decoding them.
+ */
+public interface PartialSolutionCodec {
+
+    /**
+     * @return the maximum number of bytes {@link #encode(PartialSolution, ByteBuffer)} can write
+     */
+    int getMaxEncodedLength();
+
+    /**
+     * Write a partial solution at the current position of the buffer.
+     * @param solution the partial solution to encode, which must belong to the solution space of this codec
+     * @param buffer the buffer to write to, which must have at least {@link #getMaxEncodedLength()} bytes remaining
+     */
+    void encode(PartialSolution solution, ByteBuffer buffer);
+
+    /**
+     * Read a partial solution from the current position of the buffer.
+     * @param buffer the buffer to read from
+     * @return a partial solution equivalent to the one that was encoded
+     */
+    PartialSolution decode(ByteBuffer buffer);
+}
@@ -15,4 +15,25 @@ public interface SolutionSpace {
      * @return The root of the solution space.
      */
     PartialSolution getRoot(SchedulingContext ctx);
+
+    /**
+     * Determines whether every state of this solution space can only be reached by a single path from the root.
+     * Searches can skip duplicate detection on such solution spaces, since it would never find anything.
+     *
+     * @return true if no two partial solutions in this solution space have the same {@link StateKey}.
+     */
+    default boolean isTree() {
+        return false;
+    }
+
+    /**
+     * Get a codec which can write the partial solutions of this solution space out of memory and read them back.
+     *
+     * @param ctx Context of the partial solutions to encode.
+     * @return The codec.
+     * @throws UnsupportedOperationException if this solution space has no binary encoding
+     */
+    default PartialSolutionCodec getCodec(SchedulingContext ctx) {
+        throw new UnsupportedOperationException("solution space has no binary encoding");
+    }
 }
@@ -0,0 +1,67 @@
+package team02.project.algorithm.solnspace;
+
+import java.util.Arrays;
+
+/**
+ * A compact, immutable key identifying the search state represented by a {@link PartialSolution}.
+ *
+ * Two partial solutions with equal keys lead to exactly the same set of complete solutions, so a search only needs
+ * to expand one of them. The state is packed into a long array by the solution space so that large closed sets
+ * stay small, and the hash is computed once up front.
+ */
+public final class StateKey implements Comparable<StateKey> {
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final long[] words;
+    private final int hash;
+
+    /**
+     * Create a key from the given packed state. The array is not copied and must not be modified afterwards.
+     * @param words the packed state
+     */
+    public StateKey(long[] words) {
+        this.words = words;
+
+        long h = words.length;
+        for (long word : words) {
+            h = (h ^ word) * MIX;
+            h ^= h >>> 32;
+        }
+        this.hash = (int) (h ^ (h >>> 29));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof StateKey
+                && hash == ((StateKey) other).hash
+                && Arrays.equals(words, ((StateKey) other).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Keys are ordered by length, then lexicographically. The order has no meaning beyond being stable between runs,
+     * which makes it useful for breaking ties deterministically.
+     */
+    @Override
+    public int compareTo(StateKey other) {
+        if (words.length != other.words.length) {
+            return Integer.compare(words.length, other.words.length);
+        }
+
+        for (int i = 0; i < words.length; ++i) {
+            if (words[i] != other.words[i]) {
+                return Long.compare(words[i], other.words[i]);
+            }
+        }
+
+        return 0;
+    }
+}
@@ -4,6 +4,7 @@ import team02.project.algorithm.Schedule;
 import team02.project.algorithm.ScheduledTask;
 import team02.project.algorithm.SchedulingContext;
 import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
 import team02.project.graph.Node;
 
 import java.util.*;
@@ -15,6 +16,8 @@ import java.util.*;
  */
 public class AOCompleteSolution implements PartialSolution {
 
+    private static final long STATE_KEY_TAG = 3L << 56;
+
     /**
      * Cache the complete schedule so that we don't call the expensive {@link AOCompleteSolution#buildComplete()}
      * multiple times
@@ -113,6 +116,22 @@ public class AOCompleteSolution implements PartialSolution {
         return completeSchedule;
     }
 
+    /**
+     * A complete solution has the same state as the ordering it was made from.
+     * {@inheritDoc}
+     */
+    @Override
+    public StateKey getStateKey() {
+        return ordering.makeStateKey(STATE_KEY_TAG);
+    }
+
+    /**
+     * @return the complete ordering this solution was made from
+     */
+    OPartialSolution getOrdering() {
+        return ordering;
+    }
+
     /**
      * Builds the complete schedule.
      */
@@ -0,0 +1,154 @@
+package team02.project.algorithm.solnspace.ao;
+
+import team02.project.algorithm.SchedulingContext;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
+import team02.project.graph.Node;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of partial solutions in the AO solution space. A partial solution is encoded as the decisions made
+ * on the path to it from the root: the processor each task was allocated to, in allocation order, followed by the
+ * tasks in the order they were ordered. Every value takes one byte, so a partial solution takes at most
+ * 3 + 2 * (number of tasks) bytes.
+ *
+ * Decoding replays the decisions from the root, which gives back a partial solution with exactly the same estimate
+ * and children as the one encoded.
+ */
+public class AOPartialSolutionCodec implements PartialSolutionCodec {
+    private static final int MAX_VALUE = 0xFF;
+
+    private static final byte ALLOCATION = 1;
+    private static final byte ORDERING = 2;
+    private static final byte COMPLETE = 3;
+
+    private final SchedulingContext context;
+    private final Node[] nodes;
+    private final Node[] nodesByIndex;
+
+    public AOPartialSolutionCodec(SchedulingContext context) {
+        if(context.getTaskGraph().getNodes().length > MAX_VALUE || context.getProcessorCount() > MAX_VALUE) {
+            throw new IllegalArgumentException("too many tasks or processors to encode");
+        }
+
+        this.context = context;
+        this.nodes = context.getTaskGraph().getNodes();
+        this.nodesByIndex = new Node[nodes.length];
+        for(Node node : nodes) {
+            nodesByIndex[node.getIndex()] = node;
+        }
+    }
+
+    @Override
+    public int getMaxEncodedLength() {
+        return 3 + 2 * nodes.length;
+    }
+
+    @Override
+    public void encode(PartialSolution solution, ByteBuffer buffer) {
+        if(solution instanceof APartialSolution) {
+            buffer.put(ALLOCATION);
+            encodeAllocation((APartialSolution) solution, buffer);
+        } else if(solution instanceof OPartialSolution) {
+            buffer.put(ORDERING);
+            encodeOrdering((OPartialSolution) solution, buffer);
+        } else if(solution instanceof AOCompleteSolution) {
+            buffer.put(COMPLETE);
+            encodeOrdering(((AOCompleteSolution) solution).getOrdering(), buffer);
+        } else {
+            throw new IllegalArgumentException("not an AO partial solution: " + solution);
+        }
+    }
+
+    @Override
+    public PartialSolution decode(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        switch(kind) {
+            case ALLOCATION:
+                return decodeAllocation(buffer);
+            case ORDERING:
+                return decodeOrdering(buffer);
+            case COMPLETE:
+                return new AOCompleteSolution(decodeOrdering(buffer));
+            default:
+                throw new IllegalArgumentException("unknown partial solution kind " + kind);
+        }
+    }
+
+    private void encodeAllocation(APartialSolution allocation, ByteBuffer buffer) {
+        int depth = 0;
+        for(APartialSolution current = allocation; !current.isEmpty(); current = current.getParent()) {
+            depth++;
+        }
+
+        // the allocation chain runs from the last task allocated back to the first
+        int length = depth;
+        buffer.put((byte) length);
+        int start = buffer.position();
+        for(APartialSolution current = allocation; !current.isEmpty(); current = current.getParent()) {
+            buffer.put(start + --depth, (byte) current.getProcessor());
+        }
+        buffer.position(start + length);
+    }
+
+    private APartialSolution decodeAllocation(ByteBuffer buffer) {
+        int depth = buffer.get() & MAX_VALUE;
+        APartialSolution current = APartialSolution.makeEmpty(context);
+        for(int i = 0; i < depth; ++i) {
+            current = allocate(current, buffer.get() & MAX_VALUE);
+        }
+        return current;
+    }
+
+    /**
+     * Find the child of an allocation which places the next task on the given processor.
+     */
+    private APartialSolution allocate(APartialSolution allocation, int processor) {
+        for(PartialSolution child : allocation.expand()) {
+            if(((APartialSolution) child).getProcessor() == processor) {
+                return (APartialSolution) child;
+            }
+        }
+
+        throw new IllegalArgumentException("processor " + processor + " can't be allocated here");
+    }
+
+    private void encodeOrdering(OPartialSolution ordering, ByteBuffer buffer) {
+        Allocation allocation = ordering.getAllocation();
+        for(Node node : nodes) {
+            buffer.put((byte) allocation.getProcessorFor(node));
+        }
+
+        int depth = 0;
+        for(OPartialSolution current = ordering; !current.isEmptyOrdering(); current = current.getParent()) {
+            depth++;
+        }
+
+        // the ordering chain runs from the last task ordered back to the first
+        int length = depth;
+        buffer.put((byte) length);
+        int start = buffer.position();
+        for(OPartialSolution current = ordering; !current.isEmptyOrdering(); current = current.getParent()) {
+            buffer.put(start + --depth, (byte) current.getTask().getIndex());
+        }
+        buffer.position(start + length);
+    }
+
+    private OPartialSolution decodeOrdering(ByteBuffer buffer) {
+        // tasks are allocated in the order they appear in the graph
+        APartialSolution allocation = APartialSolution.makeEmpty(context);
+        for(int i = 0; i < nodes.length; ++i) {
+            allocation = allocate(allocation, buffer.get() & MAX_VALUE);
+        }
+
+        Allocation complete = Allocation.fromAPartialSolution(allocation);
+        OPartialSolution current = OPartialSolution.makeEmpty(context, complete);
+        int depth = buffer.get() & MAX_VALUE;
+        for(int i = 0; i < depth; ++i) {
+            Node task = nodesByIndex[buffer.get() & MAX_VALUE];
+            current = current.createChild(task, complete.getProcessorFor(task));
+        }
+        return current;
+    }
+}
@@ -2,6 +2,7 @@ package team02.project.algorithm.solnspace.ao;
 
 import team02.project.algorithm.SchedulingContext;
 import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.PartialSolutionCodec;
 import team02.project.algorithm.solnspace.SolutionSpace;
 
 /**
@@ -23,4 +24,20 @@ public class AOSolutionSpace implements SolutionSpace {
     public PartialSolution getRoot(SchedulingContext ctx) {
         return APartialSolution.makeEmpty(ctx);
     }
+
+    /**
+     * The AO solution space is a tree: allocations are never generated twice (see {@link APartialSolution}), and
+     * orderings are expanded one processor at a time in a fixed rotation, so there is only one path to each ordering.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isTree() {
+        return true;
+    }
+
+    @Override
+    public PartialSolutionCodec getCodec(SchedulingContext ctx) {
+        return new AOPartialSolutionCodec(ctx);
+    }
 }
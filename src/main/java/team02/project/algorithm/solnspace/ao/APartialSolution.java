@@ -3,6 +3,7 @@ package team02.project.algorithm.solnspace.ao;
 import team02.project.algorithm.Schedule;
 import team02.project.algorithm.SchedulingContext;
 import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
 import team02.project.graph.Node;
 
 import java.util.*;
@@ -17,6 +18,11 @@ import java.util.*;
  */
 public class APartialSolution implements PartialSolution {
 
+    /**
+     * Tag stored in the top byte of the first state key word, distinguishing allocation keys from ordering keys.
+     */
+    static final long STATE_KEY_TAG = 1L << 56;
+
     // attributes relating to this allocation
 
     private final SchedulingContext context;
@@ -84,87 +90,110 @@ public class APartialSolution implements PartialSolution {
      */
     @Override
     public Set<PartialSolution> expand() {
-        // if we are done with the allocation, then we should start with the ordering
+        // no estimate reaches the bound, so every child is kept
+        return new HashSet<>(expand(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Allocates the next task onto each processor in one pass. The processor and top level of every task allocated
+     * so far are gathered into arrays once, and the estimate of each child is worked out from them and the loads,
+     * so a child is only created if its estimate is below the bound.
+     * {@inheritDoc}
+     */
+    @Override
+    public List<PartialSolution> expand(int bound) {
         if (isCompleteAllocation()) {
-            return Collections.singleton(OPartialSolution.makeEmpty(context, Allocation.fromAPartialSolution(this)));
+            OPartialSolution ordering = OPartialSolution.makeEmpty(context, Allocation.fromAPartialSolution(this));
+            return ordering.getEstimatedFinishTime() < bound
+                    ? Collections.singletonList(ordering)
+                    : Collections.emptyList();
         }
 
-        Set<PartialSolution> output = new HashSet<>();
-
-        // get the next one from nodesToSchedule
         Node next = getContext().getTaskGraph().getNodes()[getDepth()];
-
-        // Full mapping of Nodes -> Processors
-        Map<Node, Integer> processorLookupTable = new HashMap<>();
-
-        // Contains the TLA values of all allocated Nodes
-        int[] tla = new int[context.getTaskGraph().getNodes().length];
-
-        APartialSolution current = this;
-        while (!current.isEmpty()) {
-            processorLookupTable.put(current.getTask(), current.getProcessor());
+        Node[] parents = next.getIncomingEdgeNodes();
+        int[] edgeWeights = next.getIncomingEdgeWeights();
+        int processorCount = getContext().getProcessorCount();
+
+        // processor and top level allocated of each allocated task, by task index
+        int taskCount = getContext().getTaskGraph().getNodes().length;
+        int[] processorOf = new int[taskCount];
+        int[] tla = new int[taskCount];
+        Arrays.fill(processorOf, -1);
+        for (APartialSolution current = this; !current.isEmpty(); current = current.getParent()) {
+            processorOf[current.getTask().getIndex()] = current.getProcessor();
             tla[current.getTask().getIndex()] = current.getTopLevelAllocated();
-            current = current.getParent();
         }
 
-        // add to processors with tasks
-        for (int i = 0; i < processorsWithTasks; i++) {
-            int[] newLoads = new int[getContext().getProcessorCount()];
-            System.arraycopy(loads, 0, newLoads, 0, loads.length);
-            newLoads[i] += next.getWeight();
+        // the highest load, and the highest load on any other processor, for the max load of each child
+        int highestLoad = 0;
+        int highestProcessor = -1;
+        int secondHighestLoad = 0;
+        for (int i = 0; i < processorCount; i++) {
+            if (loads[i] > highestLoad) {
+                secondHighestLoad = highestLoad;
+                highestLoad = loads[i];
+                highestProcessor = i;
+            } else if (loads[i] > secondHighestLoad) {
+                secondHighestLoad = loads[i];
+            }
+        }
 
+        // processors with tasks, then the first empty processor if there is one
+        List<PartialSolution> output = new ArrayList<>();
+        int candidates = Math.min(processorsWithTasks + 1, processorCount);
+        for (int i = 0; i < candidates; i++) {
             int newTopLevelAllocated = 0;
-
-            for(int j = 0; j < next.getIncomingEdgeNodes().length; ++j) {
-                Node edgeNode = next.getIncomingEdgeNodes()[j];
-                int edgeWeight = next.getIncomingEdgeWeights()[j];
-
-                if (!processorLookupTable.getOrDefault(edgeNode, i).equals(i)) {
-                    newTopLevelAllocated = Math.max(newTopLevelAllocated, tla[edgeNode.getIndex()] + edgeWeight);
+            for (int j = 0; j < parents.length; ++j) {
+                int parent = parents[j].getIndex();
+                if (processorOf[parent] != i) {
+                    newTopLevelAllocated = Math.max(newTopLevelAllocated, tla[parent] + edgeWeights[j]);
                 } else {
-                    newTopLevelAllocated =  Math.max(newTopLevelAllocated, edgeNode.getTopLevel());
+                    newTopLevelAllocated = Math.max(newTopLevelAllocated, parents[j].getTopLevel());
                 }
             }
 
+            int load = loads[i] + next.getWeight();
+            int maxLoad = Math.max(load, i == highestProcessor ? secondHighestLoad : highestLoad);
+            int criticalPath = Math.max(criticalPathAllocated, newTopLevelAllocated + next.getBottomLevel());
+            if (Math.max(maxLoad, criticalPath) >= bound) {
+                continue;
+            }
+
+            int[] newLoads = loads.clone();
+            newLoads[i] = load;
             output.add(new APartialSolution(
                     this.getContext(),
                     this,
                     next,
                     i,
                     getDepth() + 1,
-                    processorsWithTasks,
+                    i == processorsWithTasks ? processorsWithTasks + 1 : processorsWithTasks,
                     newLoads,
                     newTopLevelAllocated + next.getWeight(),
-                    Math.max(this.criticalPathAllocated, newTopLevelAllocated + next.getBottomLevel()))
-            );
+                    criticalPath));
         }
 
-        // adding to empty set if available
-        if (processorsWithTasks < getContext().getProcessorCount()) {
-            int[] newLoads = new int[getContext().getProcessorCount()];
-            System.arraycopy(loads, 0, newLoads, 0, loads.length);
-            newLoads[processorsWithTasks] += next.getWeight();
+        return output;
+    }
 
-            int newTopLevelAllocated = 0;
-            for(int i = 0; i < next.getIncomingEdgeNodes().length; ++i) {
-                Node edgeNode = next.getIncomingEdgeNodes()[i];
-                int edgeWeight = next.getIncomingEdgeWeights()[i];
-                newTopLevelAllocated = Math.max(newTopLevelAllocated, tla[edgeNode.getIndex()] + edgeWeight);
-            }
+    /**
+     * The state of an allocation is the processor assigned to each task allocated so far. The processors are packed
+     * 16 bits per task in the order the tasks were allocated.
+     * {@inheritDoc}
+     */
+    @Override
+    public StateKey getStateKey() {
+        long[] words = new long[1 + (depth + 3) / 4];
+        words[0] = STATE_KEY_TAG | depth;
 
-            output.add(new APartialSolution(
-                    this.getContext(),
-                    this,
-                    next,
-                    processorsWithTasks,
-                    getDepth() + 1,
-                    processorsWithTasks + 1,
-                    newLoads,
-                    newTopLevelAllocated + next.getWeight(),
-                    Math.max(this.criticalPathAllocated, newTopLevelAllocated + next.getBottomLevel())));
+        APartialSolution current = this;
+        while (!current.isEmpty()) {
+            int i = current.getDepth() - 1;
+            words[1 + i / 4] |= (long) current.getProcessor() << ((i % 4) * 16);
+            current = current.getParent();
         }
 
-        return output;
+        return new StateKey(words);
     }
 
     /**
@@ -220,6 +249,15 @@ public class APartialSolution implements PartialSolution {
         return processor;
     }
 
+    /**
+     * The total weight of the tasks allocated to the same processor as the task allocated on this level, including it.
+     * The lower this is, the more evenly this allocation spreads the tasks out.
+     * @return the load of the task's processor.
+     */
+    public int getProcessorLoad() {
+        return loads[processor];
+    }
+
     /**
      * The task that was allocated by this level of the APartialSolution
      * @return the allocated task
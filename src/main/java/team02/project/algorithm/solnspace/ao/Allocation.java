@@ -105,7 +105,7 @@ public class Allocation {
         long[] allocationBits = new long[ctx.getProcessorCount()];
         for(int i = 0; i < tasks.size(); ++i) {
             for(Node node : tasks.get(i)) {
-                allocationBits[i] |= (1 << node.getIndex());
+                allocationBits[i] |= (1L << node.getIndex());
             }
         }
 
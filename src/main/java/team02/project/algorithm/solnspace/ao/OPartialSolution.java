@@ -3,6 +3,7 @@ package team02.project.algorithm.solnspace.ao;
 import team02.project.algorithm.Schedule;
 import team02.project.algorithm.SchedulingContext;
 import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
 import team02.project.graph.Node;
 
 import java.util.*;
@@ -13,6 +14,8 @@ import java.util.*;
  */
 public class OPartialSolution implements PartialSolution {
 
+    static final long STATE_KEY_TAG = 2L << 56;
+
     private final SchedulingContext context;
     private final Allocation allocation;
     private final OPartialSolution parent;
@@ -255,7 +258,7 @@ public class OPartialSolution implements PartialSolution {
      * @param processorNumber zero-based index for processor
      * @return Created OPartialSolution
      */
-    private OPartialSolution createChild(Node node, int processorNumber) {
+    OPartialSolution createChild(Node node, int processorNumber) {
         int[] totalOrdered = new int[getContext().getProcessorCount()];
         int[] latestFinishTime = new int[getContext().getProcessorCount()];
         int[] historicEstimatedStartTimes = new int[getContext().getTaskGraph().getNodes().length];
@@ -277,14 +280,14 @@ public class OPartialSolution implements PartialSolution {
                                          int[] historicEstimatedStartTimes) {
         long newOrderedBits = orderedBits;
         long newReadyBits = readyToOrderBits;
-        newOrderedBits |= 1 << node.getIndex();
-        newReadyBits &= ~(1 << node.getIndex());
+        newOrderedBits |= 1L << node.getIndex();
+        newReadyBits &= ~(1L << node.getIndex());
 
         for(Node dependent : node.getDependents()) {
             if(allocation.getTasksFor(processorNumber).contains(dependent) && isTaskReadyToOrder(dependent,
                     newOrderedBits,
                     allocation.getTasksFor(processorNumber))) {
-                newReadyBits |= 1 << dependent.getIndex();
+                newReadyBits |= 1L << dependent.getIndex();
             }
         }
 
@@ -349,6 +352,48 @@ public class OPartialSolution implements PartialSolution {
         return true;
     }
 
+    @Override
+    public StateKey getStateKey() {
+        return makeStateKey(STATE_KEY_TAG);
+    }
+
+    /**
+     * Builds the state key of this ordering. Besides the allocation and the set of ordered tasks, the key holds the
+     * estimated start time and position on its processor of each ordered task, since those determine both the
+     * heuristics of the children and the schedule that is eventually built.
+     * @param tag tag to distinguish the kind of solution the key is for
+     * @return the state key
+     */
+    StateKey makeStateKey(long tag) {
+        int processorCount = context.getProcessorCount();
+        long[] allocationBits = allocation.getAllocationBits();
+
+        int[] remaining = new int[processorCount];
+        for (int i = 0; i < processorCount; ++i) {
+            remaining[i] = Long.bitCount(orderedBits & allocationBits[i]);
+        }
+
+        long[] perTask = new long[context.getTaskGraph().getNodes().length];
+        OPartialSolution current = this;
+        while (!current.isEmptyOrdering()) {
+            int position = --remaining[current.getProcessor()];
+            perTask[current.getTask().getIndex()] = ((long) current.getEstimatedStartTime() << 32) | position;
+            current = current.getParent();
+        }
+
+        long[] words = new long[2 + processorCount + depth];
+        words[0] = tag | processor;
+        words[1] = orderedBits;
+        System.arraycopy(allocationBits, 0, words, 2, processorCount);
+
+        int i = 2 + processorCount;
+        for (long bits = orderedBits; bits != 0; bits &= bits - 1) {
+            words[i++] = perTask[Long.numberOfTrailingZeros(bits)];
+        }
+
+        return new StateKey(words);
+    }
+
     /**
      * Determine if this OPartialSolution represents an empty ordering where no tasks have been ordered yet.
      * @return true if this is an empty ordering
@@ -420,6 +465,13 @@ public class OPartialSolution implements PartialSolution {
         return estimatedStartTime;
     }
 
+    /**
+     * @return the complete allocation this OPartialSolution is ordering
+     */
+    Allocation getAllocation() {
+        return allocation;
+    }
+
     /**
      * The SchedulingContext associated with the solution space this OPartialSolution belongs to
      * @return associated SchedulingContext
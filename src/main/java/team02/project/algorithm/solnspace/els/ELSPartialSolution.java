@@ -6,8 +6,11 @@ import team02.project.algorithm.Schedule;
 import team02.project.algorithm.ScheduledTask;
 import team02.project.algorithm.SchedulingContext;
 import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
 import team02.project.graph.Node;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -17,6 +20,8 @@ import java.util.Set;
  * task being added to a partial schedule: it is allocated a processor and its start time is calculated immediately
  */
 public class ELSPartialSolution implements PartialSolution, Iterable<ScheduledTask> {
+    private static final long STATE_KEY_TAG = 4L << 56;
+
     private final SchedulingContext context;
     private final ELSPartialSolution parent;
     private final ScheduledTask scheduledTask;
@@ -105,7 +110,7 @@ public class ELSPartialSolution implements PartialSolution, Iterable<ScheduledTa
                         }
 
                         if(!found) {
-                            break;
+                            continue;
                         }
 
                         val finishTime = schedule.getStartTime() + schedule.getTask().getWeight();
@@ -122,6 +127,51 @@ public class ELSPartialSolution implements PartialSolution, Iterable<ScheduledTa
         return output;
     }
 
+    /**
+     * The state of an ELS partial solution is the set of tasks scheduled so far, regardless of the order they were
+     * scheduled in. Since processors are interchangeable, they are renumbered in order of their first task before
+     * the processor and start time of each task is packed into the key.
+     * {@inheritDoc}
+     */
+    @Override
+    public StateKey getStateKey() {
+        int processorCount = context.getProcessorCount();
+        int[] firstStart = new int[processorCount];
+        int[] firstTask = new int[processorCount];
+        Arrays.fill(firstStart, Integer.MAX_VALUE);
+        Arrays.fill(firstTask, Integer.MAX_VALUE);
+
+        for(val scheduled : this) {
+            int p = scheduled.getProcessorId();
+            int index = scheduled.getTask().getIndex();
+            if(scheduled.getStartTime() < firstStart[p]
+                    || (scheduled.getStartTime() == firstStart[p] && index < firstTask[p])) {
+                firstStart[p] = scheduled.getStartTime();
+                firstTask[p] = index;
+            }
+        }
+
+        Integer[] order = new Integer[processorCount];
+        for(int i = 0; i < processorCount; ++i) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(p -> firstStart[p]).thenComparingInt(p -> firstTask[p]));
+
+        int[] label = new int[processorCount];
+        for(int i = 0; i < processorCount; ++i) {
+            label[order[i]] = i;
+        }
+
+        long[] words = new long[1 + context.getTaskGraph().getNodes().length];
+        words[0] = STATE_KEY_TAG | depth;
+        for(val scheduled : this) {
+            words[1 + scheduled.getTask().getIndex()] =
+                    ((long) (label[scheduled.getProcessorId()] + 1) << 32) | scheduled.getStartTime();
+        }
+
+        return new StateKey(words);
+    }
+
     /**
      * @return true if this ELSPartialSolution is the root, i.e. no tasks have yet been scheduled.
      */
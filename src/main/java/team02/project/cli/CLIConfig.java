@@ -39,4 +39,77 @@ public interface CLIConfig {
      * @return The output's filename
      */
     public String outputDOTFile();
+
+    /**
+     * Get the wall-clock time the search may take before outputting the best schedule found so far
+     * @return The time limit in seconds, or 0 if there is no limit
+     */
+    public int timeLimitSeconds();
+
+    /**
+     * Get the width of the beam search to use instead of an exact search
+     * @return The beam width, or 0 if the search should be exact
+     */
+    public int beamWidth();
+
+    /**
+     * Get the port to listen on for worker processes when distributing the search
+     * @return The port, or 0 if the search should run in this process only
+     */
+    public int coordinatorPort();
+
+    /**
+     * Get the filename as {@link String} of the file to save the progress of the search to
+     * @return The checkpoint's filename, or an empty string if progress should not be saved
+     */
+    public String checkpointFile();
+
+    /**
+     * Determine if the search should carry on from the checkpoint file
+     * @return True if the search should resume
+     */
+    public boolean isResume();
+
+    /**
+     * Determine if the parallel search should give the same schedule every time it is run
+     * @return True if the search should be deterministic
+     */
+    public boolean isDeterministic();
+
+    /**
+     * Determine if the search should start best-first and switch to depth-first when memory runs low
+     * @return True if the hybrid search should be used
+     */
+    public boolean isHybrid();
+
+    /**
+     * Determine if several kinds of search should be run at once
+     * @return True if the portfolio of searches should be used
+     */
+    public boolean isPortfolio();
+
+    /**
+     * Get the seed for the random choices of the parallel workers, which each explore the search in a different order
+     * @return The seed, or -1 if the workers should all explore in the same order
+     */
+    public long seed();
+
+    /**
+     * Get the number of partial schedules a parallel worker may expand without finding a better schedule before it
+     * restarts
+     * @return The restart budget, or 0 if workers should never restart
+     */
+    public long restartBudget();
+
+    /**
+     * Determine if estimates of the progress of the search are to be printed while it runs
+     * @return True if progress should be estimated
+     */
+    public boolean isEstimate();
+
+    /**
+     * Get how much later than optimal the schedule may finish, as a fraction of the optimal finish time
+     * @return The gap, or -1 if the schedule must be optimal
+     */
+    public double gap();
 }
@@ -60,6 +60,90 @@ public class CLIConfigBuilder {
         return this;
     }
 
+    public CLIConfigBuilder setTimeLimitSeconds(int timeLimitSeconds) throws CLIException {
+        if (timeLimitSeconds < 0) {
+            throw new CLIException(NEGATIVE_TIME_LIMIT);
+        }
+
+        config.timeLimitSeconds = timeLimitSeconds;
+        return this;
+    }
+
+    public CLIConfigBuilder setBeamWidth(int beamWidth) throws CLIException {
+        if (beamWidth <= 0) {
+            throw new CLIException(NEGATIVE_BEAM_WIDTH);
+        }
+
+        config.beamWidth = beamWidth;
+        return this;
+    }
+
+    public CLIConfigBuilder setCoordinatorPort(int coordinatorPort) throws CLIException {
+        if (coordinatorPort <= 0 || coordinatorPort > MAX_PORT) {
+            throw new CLIException(INVALID_COORDINATOR_PORT);
+        }
+
+        config.coordinatorPort = coordinatorPort;
+        return this;
+    }
+
+    public CLIConfigBuilder setCheckpointFile(String checkpointFile) {
+        config.checkpointFile = checkpointFile;
+        return this;
+    }
+
+    public CLIConfigBuilder setResume(boolean resume) {
+        config.resume = resume;
+        return this;
+    }
+
+    public CLIConfigBuilder setDeterministic(boolean deterministic) {
+        config.deterministic = deterministic;
+        return this;
+    }
+
+    public CLIConfigBuilder setHybrid(boolean hybrid) {
+        config.hybrid = hybrid;
+        return this;
+    }
+
+    public CLIConfigBuilder setPortfolio(boolean portfolio) {
+        config.portfolio = portfolio;
+        return this;
+    }
+
+    public CLIConfigBuilder setSeed(long seed) throws CLIException {
+        if (seed < 0) {
+            throw new CLIException(NEGATIVE_SEED);
+        }
+
+        config.seed = seed;
+        return this;
+    }
+
+    public CLIConfigBuilder setRestartBudget(long restartBudget) throws CLIException {
+        if (restartBudget <= 0) {
+            throw new CLIException(NEGATIVE_RESTART_BUDGET);
+        }
+
+        config.restartBudget = restartBudget;
+        return this;
+    }
+
+    public CLIConfigBuilder setEstimate(boolean estimate) {
+        config.estimate = estimate;
+        return this;
+    }
+
+    public CLIConfigBuilder setGap(double gap) throws CLIException {
+        if (!(gap >= 0)) {
+            throw new CLIException(NEGATIVE_GAP);
+        }
+
+        config.gap = gap;
+        return this;
+    }
+
     public CLIConfig build() {
         CLIConfig returnConfig = config;
         clearExistingConfig();
@@ -4,6 +4,18 @@ public final class CLIConstants {
     public static final String PARALLEL_OPTION_DESCRIPTION = "Use N cores for execution in parallel (default is sequential)";
     public static final String VISUALISE_OPTION_DESCRIPTION = "Visualise the search";
     public static final String OUTPUT_NAME_OPTION_DESCRIPTION = "Output file is named OUTPUT (default is INPUT−output.dot)";
+    public static final String BEAM_WIDTH_OPTION_DESCRIPTION = "Use a beam search keeping W partial schedules per step, for a fast but possibly non-optimal schedule";
+    public static final String TIME_LIMIT_OPTION_DESCRIPTION = "Stop searching after T seconds and output the best schedule found (default is no limit)";
+    public static final String COORDINATOR_PORT_OPTION_DESCRIPTION = "Coordinate a search distributed over worker processes, which connect on PORT";
+    public static final String CHECKPOINT_OPTION_DESCRIPTION = "Save the progress of the search to FILE every minute";
+    public static final String RESUME_OPTION_DESCRIPTION = "Carry on the search saved in the -c FILE instead of starting again";
+    public static final String DETERMINISTIC_OPTION_DESCRIPTION = "Search in parallel so that every run with the same N gives the same schedule";
+    public static final String GAP_OPTION_DESCRIPTION = "Find a schedule which finishes at most E later than optimal, e.g. 0.05 for 5%, and print how close to optimal it is";
+    public static final String HYBRID_OPTION_DESCRIPTION = "Search best-first until memory runs low, then carry on depth-first";
+    public static final String PORTFOLIO_OPTION_DESCRIPTION = "Run several kinds of search at once, and stop as soon as any of them proves its schedule optimal";
+    public static final String SEED_OPTION_DESCRIPTION = "Make each parallel worker explore the search in a different order, with random choices seeded by S";
+    public static final String RESTART_OPTION_DESCRIPTION = "With --seed, restart a parallel worker once it has expanded R partial schedules without finding a better schedule";
+    public static final String ESTIMATE_OPTION_DESCRIPTION = "Print an estimate of how much of the search is done, and how long is left, every 10 seconds";
     public static final String INVALID_NUMBER_OF_ARGS_MSG = "Please pass arguments for parameters INPUT.dot and P.";
     public static final String INVALID_OPTIONAL_ARGS = "Unable to parse optional arguments";
     public static final String TOO_MANY_ARGS = "Specified too many optional arguments";
@@ -12,15 +24,51 @@ public final class CLIConstants {
     public static final String DEFAULT_OUTPUT_SUFFIX = "-output.dot";
     public static final String NEGATIVE_SCHEDULE_CORES = "P must be a positive integer";
     public static final String NEGATIVE_PARALLEL_CORES = "N must be a positive integer";
+    public static final String NEGATIVE_TIME_LIMIT = "T must be a non-negative integer";
+    public static final String NEGATIVE_BEAM_WIDTH = "W must be a positive integer";
+    public static final String INVALID_COORDINATOR_PORT = "PORT must be between 1 and 65535";
+    public static final String NEGATIVE_GAP = "E must be a non-negative number";
+    public static final String NEGATIVE_SEED = "S must be a non-negative integer";
+    public static final String NEGATIVE_RESTART_BUDGET = "R must be a positive integer";
+    public static final String RESTART_WITHOUT_SEED = "--restart needs the seed given with --seed";
+    public static final String RESUME_WITHOUT_CHECKPOINT = "--resume needs the checkpoint FILE given with -c";
+    public static final String CHECKPOINT_UNSUPPORTED = "-c can't be used with -b, -d, -g, --deterministic, --hybrid or --portfolio";
+    public static final String ESTIMATE_UNSUPPORTED = "-e can't be used with -b, -d, -g, --hybrid or --portfolio";
+    public static final String SEED_UNSUPPORTED = "--seed needs -p N with N > 1, and can't be used with -v, -b, -d, -g, --deterministic, --hybrid or --portfolio";
     public static final String PARALLEL_FLAG = "p";
     public static final String VISUALIZE_FLAG = "v";
     public static final String CUSTOM_OUTPUT_NAME_FLAG = "o";
+    public static final String TIME_LIMIT_FLAG = "t";
+    public static final String BEAM_WIDTH_FLAG = "b";
+    public static final String COORDINATOR_PORT_FLAG = "d";
+    public static final String CHECKPOINT_FLAG = "c";
+    public static final String RESUME_FLAG = "r";
+    public static final String RESUME_LONG_FLAG = "resume";
+    public static final String DETERMINISTIC_LONG_FLAG = "deterministic";
+    public static final String HYBRID_LONG_FLAG = "hybrid";
+    public static final String PORTFOLIO_LONG_FLAG = "portfolio";
+    public static final String SEED_LONG_FLAG = "seed";
+    public static final String RESTART_LONG_FLAG = "restart";
+    public static final String ESTIMATE_FLAG = "e";
+    public static final String ESTIMATE_LONG_FLAG = "estimate";
+    public static final String GAP_FLAG = "g";
+    public static final String GAP_LONG_FLAG = "gap";
     public static final String DEFAULT_INPUT_DOT_FILE_NAME = "INPUT.dot";
     public static final int DEFAULT_SCHEDULE_PROCESSORS = 1;
     public static final int DEFAULT_PARALLEL_CORES = 1;
     public static final boolean DEFAULT_VISUALIZATION = false;
     public static final String DEFAULT_OUTPUT_DOT_FILE_NAME = "INPUT-output.dot";
+    public static final int NO_TIME_LIMIT = 0;
+    public static final int NO_BEAM_WIDTH = 0;
+    public static final int NOT_DISTRIBUTED = 0;
+    public static final int MAX_PORT = 65535;
+    public static final String NO_CHECKPOINT_FILE = "";
+    public static final int ESTIMATE_INTERVAL_SECONDS = 10;
+    public static final double NO_GAP = -1;
+    public static final long NO_SEED = -1;
+    public static final long NO_RESTART = 0;
     public static final String MAIN_ERROR_MESSAGE_PRE = "There has been a problem with parsing arguments: ";
     public static final String INPUT_FILE_NOT_FOUND_ERROR = "The specified input file could not be found.";
+    public static final String CHECKPOINT_FILE_NOT_FOUND_ERROR = "The checkpoint file to resume from could not be found.";
     public static final String OUTPUT_FILE_ALREADY_EXISTS_WARNING = "The output file already exists. It will be overwritten.";
 }
@@ -11,6 +11,18 @@ public class CLIDefaultConfig implements CLIConfig {
     protected int parallelCores = DEFAULT_PARALLEL_CORES;
     protected boolean visualize = DEFAULT_VISUALIZATION;
     protected String outputDOTFile = DEFAULT_OUTPUT_DOT_FILE_NAME;
+    protected int timeLimitSeconds = NO_TIME_LIMIT;
+    protected int beamWidth = NO_BEAM_WIDTH;
+    protected int coordinatorPort = NOT_DISTRIBUTED;
+    protected String checkpointFile = NO_CHECKPOINT_FILE;
+    protected boolean resume = false;
+    protected boolean deterministic = false;
+    protected boolean hybrid = false;
+    protected boolean portfolio = false;
+    protected long seed = NO_SEED;
+    protected long restartBudget = NO_RESTART;
+    protected boolean estimate = false;
+    protected double gap = NO_GAP;
 
     protected CLIDefaultConfig() {}
 
@@ -39,12 +51,84 @@ public class CLIDefaultConfig implements CLIConfig {
         return outputDOTFile;
     }
 
+    @Override
+    public int timeLimitSeconds() {
+        return timeLimitSeconds;
+    }
+
+    @Override
+    public int beamWidth() {
+        return beamWidth;
+    }
+
+    @Override
+    public int coordinatorPort() {
+        return coordinatorPort;
+    }
+
+    @Override
+    public String checkpointFile() {
+        return checkpointFile;
+    }
+
+    @Override
+    public boolean isResume() {
+        return resume;
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return deterministic;
+    }
+
+    @Override
+    public boolean isHybrid() {
+        return hybrid;
+    }
+
+    @Override
+    public boolean isPortfolio() {
+        return portfolio;
+    }
+
+    @Override
+    public long seed() {
+        return seed;
+    }
+
+    @Override
+    public long restartBudget() {
+        return restartBudget;
+    }
+
+    @Override
+    public boolean isEstimate() {
+        return estimate;
+    }
+
+    @Override
+    public double gap() {
+        return gap;
+    }
+
     @Override
     public String toString() {
         return "The name of the input DOT file is: " + inputDOTFile() + "\n"
                 + "The number of schedule cores is: " + numberOfScheduleProcessors() + "\n"
                 + "The number of parallel cores is: " + numberOfParallelCores() + "\n"
                 + "Visualize: " + isVisualize() + "\n"
-                + "The name of the output DOT file is: " + outputDOTFile();
+                + "The name of the output DOT file is: " + outputDOTFile() + "\n"
+                + "The time limit in seconds is: " + timeLimitSeconds() + "\n"
+                + "The beam width is: " + beamWidth() + "\n"
+                + "The coordinator port is: " + coordinatorPort() + "\n"
+                + "The checkpoint file is: " + checkpointFile() + "\n"
+                + "Resume: " + isResume() + "\n"
+                + "Deterministic: " + isDeterministic() + "\n"
+                + "Hybrid: " + isHybrid() + "\n"
+                + "Portfolio: " + isPortfolio() + "\n"
+                + "The seed is: " + seed() + "\n"
+                + "The restart budget is: " + restartBudget() + "\n"
+                + "Estimate: " + isEstimate() + "\n"
+                + "The gap is: " + gap();
     }
 }
@@ -24,16 +24,84 @@ public class CLIParser {
         int parallelCores = getParallelCores(cmd);
         boolean visualize = getVisualizeOption(cmd);
         String outputDOTFile = getOutputFileName(cmd);
+        int timeLimitSeconds = getTimeLimit(cmd);
 
         CLIConfigBuilder builder = new CLIConfigBuilder();
-        CLIConfig config = builder.setInputDOTFile(inputDOTFile)
+        builder.setInputDOTFile(inputDOTFile)
                 .setNumberOfScheduleProcessors(scheduleProcessors)
                 .setNumberOfParallelCores(parallelCores)
                 .setVisualize(visualize)
                 .setOutputDOTFile(outputDOTFile)
-                .build();
+                .setTimeLimitSeconds(timeLimitSeconds);
 
-        return config;
+        if (cmd.hasOption(BEAM_WIDTH_FLAG)) {
+            builder.setBeamWidth(getBeamWidth(cmd));
+        }
+
+        if (cmd.hasOption(COORDINATOR_PORT_FLAG)) {
+            builder.setCoordinatorPort(getCoordinatorPort(cmd));
+        }
+
+        if (cmd.hasOption(CHECKPOINT_FLAG)) {
+            builder.setCheckpointFile(cmd.getOptionValue(CHECKPOINT_FLAG));
+        }
+
+        if (cmd.hasOption(RESUME_FLAG)) {
+            if (!cmd.hasOption(CHECKPOINT_FLAG)) {
+                throw new CLIException(RESUME_WITHOUT_CHECKPOINT);
+            }
+            builder.setResume(true);
+        }
+
+        if (cmd.hasOption(DETERMINISTIC_LONG_FLAG)) {
+            builder.setDeterministic(true);
+        }
+
+        if (cmd.hasOption(HYBRID_LONG_FLAG)) {
+            builder.setHybrid(true);
+        }
+
+        if (cmd.hasOption(PORTFOLIO_LONG_FLAG)) {
+            builder.setPortfolio(true);
+        }
+
+        if (cmd.hasOption(SEED_LONG_FLAG)) {
+            builder.setSeed(getLong(cmd, SEED_LONG_FLAG, NEGATIVE_SEED));
+        }
+
+        if (cmd.hasOption(RESTART_LONG_FLAG)) {
+            if (!cmd.hasOption(SEED_LONG_FLAG)) {
+                throw new CLIException(RESTART_WITHOUT_SEED);
+            }
+            builder.setRestartBudget(getLong(cmd, RESTART_LONG_FLAG, NEGATIVE_RESTART_BUDGET));
+        }
+
+        if (cmd.hasOption(ESTIMATE_FLAG)) {
+            builder.setEstimate(true);
+        }
+
+        if (cmd.hasOption(GAP_FLAG)) {
+            builder.setGap(getGap(cmd));
+        }
+
+        // these searches don't save their progress, report an estimate or take a seed
+        boolean otherSearch = cmd.hasOption(BEAM_WIDTH_FLAG) || cmd.hasOption(COORDINATOR_PORT_FLAG)
+                || cmd.hasOption(GAP_FLAG) || cmd.hasOption(HYBRID_LONG_FLAG) || cmd.hasOption(PORTFOLIO_LONG_FLAG);
+
+        if (cmd.hasOption(CHECKPOINT_FLAG) && (otherSearch || cmd.hasOption(DETERMINISTIC_LONG_FLAG))) {
+            throw new CLIException(CHECKPOINT_UNSUPPORTED);
+        }
+
+        if (cmd.hasOption(ESTIMATE_FLAG) && otherSearch) {
+            throw new CLIException(ESTIMATE_UNSUPPORTED);
+        }
+
+        if (cmd.hasOption(SEED_LONG_FLAG) && (otherSearch || cmd.hasOption(DETERMINISTIC_LONG_FLAG)
+                || visualize || parallelCores == 1)) {
+            throw new CLIException(SEED_UNSUPPORTED);
+        }
+
+        return builder.build();
     }
 
     /**
@@ -56,7 +124,19 @@ public class CLIParser {
                 "Optional: \n" +
                 "-p N (Use N cores for execution in parallel (default is sequential).) \n"+
                 "-v (Visualise the search.) \n"+
-                "-o OUTPUT (Output file is named OUTPUT (default is INPUT-output.dot).)";
+                "-o OUTPUT (Output file is named OUTPUT (default is INPUT-output.dot).) \n"+
+                "-t T (Stop searching after T seconds and output the best schedule found (default is no limit).) \n"+
+                "-b W (Use a beam search keeping W partial schedules per step, for a fast but possibly non-optimal schedule.) \n"+
+                "-d PORT (Coordinate a search distributed over worker processes, which connect on PORT.) \n"+
+                "-c FILE (Save the progress of the search to FILE every minute.) \n"+
+                "-r, --resume (Carry on the search saved in the -c FILE instead of starting again.) \n"+
+                "--deterministic (Search in parallel so that every run with the same N gives the same schedule.) \n"+
+                "--hybrid (Search best-first until memory runs low, then carry on depth-first.) \n"+
+                "--portfolio (Run several kinds of search at once, and stop as soon as any of them proves its schedule optimal.) \n"+
+                "--seed S (Make each parallel worker explore the search in a different order, with random choices seeded by S.) \n"+
+                "--restart R (With --seed, restart a parallel worker once it has expanded R partial schedules without finding a better schedule.) \n"+
+                "-e, --estimate (Print an estimate of how much of the search is done, and how long is left, every 10 seconds.) \n"+
+                "-g, --gap E (Find a schedule which finishes at most E later than optimal, e.g. 0.05 for 5%, and print how close to optimal it is.)";
 
         sb.append(helpString);
 
@@ -133,6 +213,79 @@ public class CLIParser {
         return outputFileName;
     }
 
+    /**
+     * @param cmd
+     * @return The number of seconds the search may run for, or 0 for no limit
+     * @throws CLIException
+     */
+    private int getTimeLimit(CommandLine cmd) throws CLIException {
+        int timeLimit = NO_TIME_LIMIT;
+
+        if (cmd.hasOption(TIME_LIMIT_FLAG)) {
+            try {
+                timeLimit = Integer.parseInt(cmd.getOptionValue(TIME_LIMIT_FLAG));
+            } catch (NumberFormatException e) {
+                throw new CLIException(NEGATIVE_TIME_LIMIT);
+            }
+        }
+
+        return timeLimit;
+    }
+
+    /**
+     * @param cmd
+     * @return The beam width the user wants
+     * @throws CLIException
+     */
+    private int getBeamWidth(CommandLine cmd) throws CLIException {
+        try {
+            return Integer.parseInt(cmd.getOptionValue(BEAM_WIDTH_FLAG));
+        } catch (NumberFormatException e) {
+            throw new CLIException(NEGATIVE_BEAM_WIDTH);
+        }
+    }
+
+    /**
+     * @param cmd
+     * @return The port the user wants worker processes to connect on
+     * @throws CLIException
+     */
+    private int getCoordinatorPort(CommandLine cmd) throws CLIException {
+        try {
+            return Integer.parseInt(cmd.getOptionValue(COORDINATOR_PORT_FLAG));
+        } catch (NumberFormatException e) {
+            throw new CLIException(INVALID_COORDINATOR_PORT);
+        }
+    }
+
+    /**
+     * @param cmd
+     * @param longFlag the option to get the value of
+     * @param errorMessage the message to give if the value isn't an integer
+     * @return The value the user gave the option
+     * @throws CLIException
+     */
+    private long getLong(CommandLine cmd, String longFlag, String errorMessage) throws CLIException {
+        try {
+            return Long.parseLong(cmd.getOptionValue(longFlag));
+        } catch (NumberFormatException e) {
+            throw new CLIException(errorMessage);
+        }
+    }
+
+    /**
+     * @param cmd
+     * @return How much later than optimal the user allows the schedule to finish
+     * @throws CLIException
+     */
+    private double getGap(CommandLine cmd) throws CLIException {
+        try {
+            return Double.parseDouble(cmd.getOptionValue(GAP_FLAG));
+        } catch (NumberFormatException e) {
+            throw new CLIException(NEGATIVE_GAP);
+        }
+    }
+
     /**
      * @param length of the arguments
      * @return a boolean telling us whether the number of arguments is valid or not
@@ -153,6 +306,30 @@ public class CLIParser {
 
         options.addOption(CUSTOM_OUTPUT_NAME_FLAG, true, OUTPUT_NAME_OPTION_DESCRIPTION);
 
+        options.addOption(TIME_LIMIT_FLAG, true, TIME_LIMIT_OPTION_DESCRIPTION);
+
+        options.addOption(BEAM_WIDTH_FLAG, true, BEAM_WIDTH_OPTION_DESCRIPTION);
+
+        options.addOption(COORDINATOR_PORT_FLAG, true, COORDINATOR_PORT_OPTION_DESCRIPTION);
+
+        options.addOption(CHECKPOINT_FLAG, true, CHECKPOINT_OPTION_DESCRIPTION);
+
+        options.addOption(RESUME_FLAG, RESUME_LONG_FLAG, false, RESUME_OPTION_DESCRIPTION);
+
+        options.addOption(null, DETERMINISTIC_LONG_FLAG, false, DETERMINISTIC_OPTION_DESCRIPTION);
+
+        options.addOption(null, HYBRID_LONG_FLAG, false, HYBRID_OPTION_DESCRIPTION);
+
+        options.addOption(null, PORTFOLIO_LONG_FLAG, false, PORTFOLIO_OPTION_DESCRIPTION);
+
+        options.addOption(null, SEED_LONG_FLAG, true, SEED_OPTION_DESCRIPTION);
+
+        options.addOption(null, RESTART_LONG_FLAG, true, RESTART_OPTION_DESCRIPTION);
+
+        options.addOption(ESTIMATE_FLAG, ESTIMATE_LONG_FLAG, false, ESTIMATE_OPTION_DESCRIPTION);
+
+        options.addOption(GAP_FLAG, GAP_LONG_FLAG, true, GAP_OPTION_DESCRIPTION);
+
         return options;
     }
 
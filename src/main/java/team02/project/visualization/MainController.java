@@ -31,6 +31,7 @@ import javafx.util.Duration;
 import team02.project.algorithm.Schedule;
 import team02.project.algorithm.ScheduledTask;
 import team02.project.algorithm.AlgorithmMonitor;
+import team02.project.algorithm.ProgressEstimator;
 import team02.project.cli.CLIConfig;
 import team02.project.visualization.GanttChart.ExtraData;
 
@@ -64,11 +65,13 @@ public class MainController {
     private VBox ganttBox;
 
     @FXML
-    private TextFlow numProFlow, inGraphFlow, outGraphFlow;
+    private TextFlow numProFlow, inGraphFlow, outGraphFlow, estimateFlow;
 
     @FXML
     private Text schedCreatedText, currentBestText, timeElapsedText, runningText;
 
+    private Text estimateText;
+
     private Tile memoryTile;
     private Tile allocationTile;
     private Tile orderTile;
@@ -133,6 +136,7 @@ public class MainController {
             }
             currentBestText.setText("" + monitor.getCurrentBest().getFinishTime());
             updateNumSchedules(monitor.getCompleteSchedules());
+            estimateText.setText(ProgressEstimator.describe(monitor));
 
             ObservableList<ChartData> allocData = allocationTile.getChartData();
             ObservableList<ChartData> orderData = orderTile.getChartData();
@@ -258,15 +262,18 @@ public class MainController {
         Text inputText = new Text(inputString);
         Text outputText = new Text(outputString);
         Text processorText = new Text(String.valueOf(config.numberOfScheduleProcessors()));
+        estimateText = new Text(ProgressEstimator.describe(monitor));
 
         inputText.setStyle("-fx-font-family:\'Roboto Mono\'");
         outputText.setStyle("-fx-font-family:\'Roboto Mono\'");
         processorText.setStyle("-fx-font-family:\'Roboto Mono\'");
+        estimateText.setStyle("-fx-font-family:\'Roboto Mono\'");
 
 
         inGraphFlow.getChildren().add(inputText);
         outGraphFlow.getChildren().add(outputText);
         numProFlow.getChildren().add(processorText);
+        estimateFlow.getChildren().add(estimateText);
     }
 
     private void startTimer(){
@@ -0,0 +1,32 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.algorithm.solnspace.els.ELSSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class AStarAlgorithmTest {
+
+    @Test
+    public void testOptimalAO() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new AStarAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testOptimalELS() {
+        // ELS reaches states by more than one path, so this searches with the closed set. It takes much longer to
+        // search most of the other graphs
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors <= 4, 8,
+                "OutTree-Unbalanced,Pipeline");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new AStarAlgorithm(new ELSSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+}
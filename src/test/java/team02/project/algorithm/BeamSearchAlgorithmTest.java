@@ -0,0 +1,46 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+import static team02.project.algorithm.ScheduleAssert.assertValid;
+
+public class BeamSearchAlgorithmTest {
+
+    private static final int PARALLELISM = 3;
+
+    private static final int WIDE_BEAM = 100000;
+
+    @Test
+    public void testOptimalWhenNothingTruncated() {
+        // graphs with no layer wider than the beam
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 2, 8,
+                "Pipeline,SeriesParallel-MaxBf-2");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            SearchResult result = new BeamSearchAlgorithm(new AOSolutionSpace(), WIDE_BEAM, PARALLELISM)
+                    .calculate(ctx, Deadline.none());
+
+            assertOptimal(testGraph, ctx, result.getSchedule());
+            assertTrue(testGraph.getName() + " not proven optimal", result.isOptimal());
+        }
+    }
+
+    @Test
+    public void testNotOptimalWhenTruncated() {
+        // every share of a layer is cut down to a single partial solution, before the shares are combined
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            SearchResult result = new BeamSearchAlgorithm(new AOSolutionSpace(), 1, PARALLELISM)
+                    .calculate(ctx, Deadline.none());
+
+            assertValid(ctx, result.getSchedule());
+            assertFalse(testGraph.getName() + " claimed to be optimal", result.isOptimal());
+        }
+    }
+}
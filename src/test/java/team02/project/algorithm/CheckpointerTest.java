@@ -0,0 +1,100 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+import team02.project.benchmark.TestGraphLoader.TestGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class CheckpointerTest {
+
+    // a small part of the search of each graph below
+    private static final long STOP_AFTER_ORDERINGS = 20000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testParallelResumedSequentially() throws IOException {
+        for (var testGraph : hardGraphs()) {
+            var ctx = testGraph.toContext();
+            Path file = folder.newFile().toPath();
+
+            var deadline = Deadline.none();
+            SearchResult stopped = new ParallelBranchAndBound(new AOSolutionSpace(), 4, new Checkpointer(file, false),
+                    new ThreadSearchExecutor("bnb-worker-"), null, stopAfter(deadline)).calculate(ctx, deadline);
+            assertFalse(testGraph.getName() + " finished before it could be stopped", stopped.isOptimal());
+
+            SearchResult resumed = new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), null,
+                    new Checkpointer(file, true)).calculate(ctx, Deadline.none());
+            assertTrue(resumed.isOptimal());
+            assertOptimal(testGraph, ctx, resumed.getSchedule());
+            assertFalse("checkpoint left behind after the search finished", Files.exists(file));
+        }
+    }
+
+    @Test
+    public void testSequentialResumedInParallel() throws IOException {
+        for (var testGraph : hardGraphs()) {
+            var ctx = testGraph.toContext();
+            Path file = folder.newFile().toPath();
+
+            var deadline = Deadline.none();
+            SearchResult stopped = new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), stopAfter(deadline),
+                    new Checkpointer(file, false)).calculate(ctx, deadline);
+            assertFalse(testGraph.getName() + " finished before it could be stopped", stopped.isOptimal());
+
+            SearchResult resumed = new ParallelBranchAndBound(new AOSolutionSpace(), 3, new Checkpointer(file, true))
+                    .calculate(ctx, Deadline.none());
+            assertTrue(resumed.isOptimal());
+            assertOptimal(testGraph, ctx, resumed.getSchedule());
+        }
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void testCheckpointOfDifferentGraphRejected() throws IOException {
+        // same number of tasks and processors, but different weights
+        var graphs = new TestGraphLoader("/testPackages/4p10nodes.csv").iterator();
+        var saved = graphs.next().toContext();
+        var other = graphs.next().toContext();
+        Path file = folder.newFile().toPath();
+
+        var deadline = Deadline.none();
+        new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), stopAfter(deadline), new Checkpointer(file, false))
+                .calculate(saved, deadline);
+        assertTrue(Files.exists(file));
+
+        new SequentialBranchBoundAlgorithm(new AOSolutionSpace(), null, new Checkpointer(file, true))
+                .calculate(other, Deadline.none());
+    }
+
+    private static Iterable<TestGraph> hardGraphs() {
+        return new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 4, 2, "Fork_Join,Pipeline");
+    }
+
+    /**
+     * @return a monitor which expires the deadline once the search has expanded a small part of the solution space
+     */
+    private static AlgorithmMonitor stopAfter(Deadline deadline) {
+        return new AlgorithmMonitor(null, 0, 0, 0) {
+            @Override
+            public void setOrderingsExpanded(long orderingsExpanded) {
+                super.setOrderingsExpanded(orderingsExpanded);
+                if (orderingsExpanded >= STOP_AFTER_ORDERINGS) {
+                    deadline.expire();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ChildOrderTest {
+
+    private static final long SEED = 42;
+    private static final int DEPTH = 3;
+
+    @Test
+    public void testEveryChildReturned() {
+        for (var children : childrenOfEachPartialSolution()) {
+            for (var order : ChildOrder.values()) {
+                var ordered = order.order(children, new Random(SEED));
+                assertEquals(order + " changed the number of children", children.size(), ordered.size());
+                assertEquals(order + " lost a child", identitySet(children), identitySet(ordered));
+            }
+        }
+    }
+
+    @Test
+    public void testBestEstimateFirstTiesBrokenByStateKey() {
+        boolean tied = false;
+        for (var children : childrenOfEachPartialSolution()) {
+            var ordered = ChildOrder.BEST_ESTIMATE_FIRST.order(children, null);
+            for (int i = 1; i < ordered.size(); ++i) {
+                var previous = ordered.get(i - 1);
+                var current = ordered.get(i);
+                int comparison = Integer.compare(previous.getEstimatedFinishTime(), current.getEstimatedFinishTime());
+                if (comparison == 0) {
+                    tied = true;
+                    comparison = previous.getStateKey().compareTo(current.getStateKey());
+                }
+                assertTrue("children out of order", comparison <= 0);
+            }
+
+            // the same order, whatever order the children come in
+            var reversed = new ArrayList<>(children);
+            Collections.reverse(reversed);
+            var shuffled = new ArrayList<>(children);
+            Collections.shuffle(shuffled, new Random(SEED));
+            assertSameOrder(ordered, ChildOrder.BEST_ESTIMATE_FIRST.order(reversed, null));
+            assertSameOrder(ordered, ChildOrder.BEST_ESTIMATE_FIRST.order(shuffled, null));
+        }
+        assertTrue("no ties to break", tied);
+    }
+
+    /**
+     * @return the children of every partial solution in the top few levels of the solution space of each graph
+     */
+    private static List<List<PartialSolution>> childrenOfEachPartialSolution() {
+        List<List<PartialSolution>> result = new ArrayList<>();
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            List<PartialSolution> level = Collections.singletonList(new AOSolutionSpace().getRoot(testGraph.toContext()));
+            for (int depth = 0; depth < DEPTH; ++depth) {
+                List<PartialSolution> next = new ArrayList<>();
+                for (var solution : level) {
+                    if (!solution.isComplete()) {
+                        var children = new ArrayList<>(solution.expand());
+                        result.add(children);
+                        next.addAll(children);
+                    }
+                }
+                level = next;
+            }
+        }
+        return result;
+    }
+
+    private static void assertSameOrder(List<PartialSolution> expected, List<PartialSolution> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+
+    private static Set<PartialSolution> identitySet(List<PartialSolution> solutions) {
+        Set<PartialSolution> set = Collections.newSetFromMap(new IdentityHashMap<>());
+        set.addAll(solutions);
+        return set;
+    }
+}
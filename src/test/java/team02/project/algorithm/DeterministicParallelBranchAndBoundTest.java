@@ -0,0 +1,34 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertEquals;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class DeterministicParallelBranchAndBoundTest {
+
+    private static final int WORKERS = 4;
+
+    @Test
+    public void testSameScheduleAndCountsEveryRun() {
+        for (var testGraph : new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 4, 8, "CCR_0.10")) {
+            var ctx = testGraph.toContext();
+            var first = new AlgorithmMonitor(null, 0, 0, 0);
+            var second = new AlgorithmMonitor(null, 0, 0, 0);
+
+            Schedule schedule = new DeterministicParallelBranchAndBound(new AOSolutionSpace(), WORKERS, first)
+                    .calculateOptimal(ctx);
+            Schedule again = new DeterministicParallelBranchAndBound(new AOSolutionSpace(), WORKERS, second)
+                    .calculateOptimal(ctx);
+
+            assertOptimal(testGraph, ctx, schedule);
+            assertEquals(testGraph.getName(), schedule, again);
+            assertEquals(testGraph.getName(), first.getAllocationsExpanded(), second.getAllocationsExpanded());
+            assertEquals(testGraph.getName(), first.getOrderingsExpanded(), second.getOrderingsExpanded());
+            assertEquals(testGraph.getName(), first.getCompleteSchedules(), second.getCompleteSchedules());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.benchmark.TestGraphLoader;
+import team02.project.benchmark.TestGraphLoader.TestGraph;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.DistributedProtocol.*;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class DistributedBranchAndBoundTest {
+
+    private static final int WORKERS = 2;
+    private static final long TIMEOUT_MILLIS = 60000;
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalWithLocalWorkers() throws Exception {
+        // graphs which take long enough that the coordinator can't finish without the workers
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 4, 3, "CCR_0.10");
+        for (var testGraph : loader) {
+            assertOptimalDistributed(testGraph, false);
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalWhenWorkerDisconnects() throws Exception {
+        // every optimal schedule of these graphs is below the first subproblem handed out, which the lost worker takes
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 2, 3,
+                "Fork_Join_Nodes_10_CCR_10.01,OutTree-Balanced-MaxBf-3_Nodes_10_CCR_10.00,"
+                        + "SeriesParallel-MaxBf-3_Nodes_10_CCR_10.02");
+        for (var testGraph : loader) {
+            assertOptimalDistributed(testGraph, true);
+        }
+    }
+
+    private static void assertOptimalDistributed(TestGraph testGraph, boolean disconnectFirst) throws Exception {
+        var ctx = testGraph.toContext();
+        var coordinator = new DistributedBranchAndBound(0);
+
+        SearchResult[] result = new SearchResult[1];
+        Thread search = new Thread(() -> result[0] = coordinator.calculate(ctx, Deadline.none()), "coordinator");
+        search.start();
+        while (coordinator.getLocalPort() == 0 && search.isAlive()) {
+            Thread.sleep(10);
+        }
+        int port = coordinator.getLocalPort();
+        assertTrue("the coordinator stopped before listening for workers", port != 0);
+
+        if (disconnectFirst) {
+            takeSubproblemAndDisconnect(port);
+        }
+
+        List<Thread> workers = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        for (int i = 0; i < WORKERS; ++i) {
+            Thread worker = new Thread(() -> {
+                try {
+                    new DistributedWorker("localhost", port).run();
+                } catch (IOException e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                }
+            }, "worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+
+        search.join();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertTrue(testGraph.getName() + " not proven optimal", result[0].isOptimal());
+        assertOptimal(testGraph, ctx, result[0].getSchedule());
+    }
+
+    /**
+     * Connect as a worker, ask for a subproblem, then disconnect without searching it.
+     */
+    private static void takeSubproblemAndDisconnect(int port) throws IOException {
+        try (Socket socket = new Socket("localhost", port)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            assertEquals(PROBLEM, in.readByte());
+            readPayload(in);
+            writeMessage(out, REQUEST_WORK, new byte[0]);
+
+            byte type;
+            do {
+                type = in.readByte();
+                readPayload(in);
+            } while (type == BOUND);
+            assertEquals(SUBPROBLEM, type);
+        }
+    }
+}
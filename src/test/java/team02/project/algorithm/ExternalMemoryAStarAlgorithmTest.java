@@ -0,0 +1,43 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class ExternalMemoryAStarAlgorithmTest {
+
+    // far fewer partial solutions than the search holds at once, so buckets are written to disk and merged back
+    private static final int TINY_BUDGET = 16;
+
+    @Test
+    public void testOptimalWhenSpillingToDisk() {
+        long merged = 0;
+        for (var testGraph : new TestGraphLoader((nodes, processors) -> nodes == 10 && processors <= 4, 8, "CCR_10")) {
+            var ctx = testGraph.toContext();
+            var algorithm = new ExternalMemoryAStarAlgorithm(new AOSolutionSpace(), TINY_BUDGET);
+
+            assertOptimal(testGraph, ctx, algorithm.calculateOptimal(ctx));
+            merged += algorithm.getRunsMerged();
+        }
+
+        assertTrue("nothing was ever written to disk and merged back", merged > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroBudgetRejected() {
+        new ExternalMemoryAStarAlgorithm(new AOSolutionSpace(), 0);
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new ExternalMemoryAStarAlgorithm(new AOSolutionSpace(), TINY_BUDGET), testGraph.toContext());
+    }
+}
@@ -0,0 +1,57 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+import static team02.project.algorithm.ScheduleAssert.assertValid;
+
+public class FocalAStarAlgorithmTest {
+
+    private static final double EPSILON = 0.2;
+
+    @Test
+    public void testScheduleWithinCertifiedBound() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            BoundedSearchResult result = new FocalAStarAlgorithm(new AOSolutionSpace(), EPSILON).calculateBounded(ctx);
+            int finishTime = result.getSchedule().getFinishTime();
+
+            assertValid(ctx, result.getSchedule());
+            assertTrue(testGraph.getName() + ": lower bound " + result.getLowerBound() + " is above the optimum",
+                    result.getLowerBound() <= testGraph.getOptimal());
+            assertTrue(testGraph.getName() + ": " + finishTime + " is not within the certified bound",
+                    finishTime <= (1 + EPSILON) * result.getLowerBound());
+            assertTrue(result.getSuboptimalityBound() <= 1 + EPSILON);
+        }
+    }
+
+    @Test
+    public void testOptimalWithZeroEpsilon() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            BoundedSearchResult result = new FocalAStarAlgorithm(new AOSolutionSpace(), 0).calculateBounded(ctx);
+
+            assertOptimal(testGraph, ctx, result.getSchedule());
+            assertEquals(testGraph.getOptimal(), result.getLowerBound());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeEpsilonRejected() {
+        new FocalAStarAlgorithm(new AOSolutionSpace(), -0.1);
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new FocalAStarAlgorithm(new AOSolutionSpace(), 0), testGraph.toContext());
+    }
+}
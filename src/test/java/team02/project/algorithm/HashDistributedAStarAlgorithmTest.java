@@ -0,0 +1,30 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class HashDistributedAStarAlgorithmTest {
+
+    private static final int WORKERS = 4;
+
+    @Test
+    public void testOptimal() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new HashDistributedAStarAlgorithm(new AOSolutionSpace(), WORKERS).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testInterruptStopsWorkers() throws InterruptedException {
+        var testGraph = new TestGraphLoader("/testPackages/all21nodes.csv").iterator().next();
+        assertInterruptible(new HashDistributedAStarAlgorithm(new AOSolutionSpace(), WORKERS),
+                testGraph.toContext(), "hda-worker-");
+    }
+}
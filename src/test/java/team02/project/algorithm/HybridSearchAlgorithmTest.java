@@ -0,0 +1,52 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class HybridSearchAlgorithmTest {
+
+    // the heap always counts as full, so the search switches to depth-first at the first memory check
+    private static final double TINY_HEAP_FRACTION = 1e-9;
+    private static final double HALF_HEAP_FRACTION = 0.5;
+
+    @Test
+    public void testOptimalWithDepthFirstSearch() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new HybridSearchAlgorithm(new AOSolutionSpace(), TINY_HEAP_FRACTION).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testThresholdsRestored() {
+        Map<String, Long> before = collectionUsageThresholds();
+
+        var ctx = new TestGraphLoader("/testPackages/2p10nodes.csv").iterator().next().toContext();
+        new HybridSearchAlgorithm(new AOSolutionSpace(), TINY_HEAP_FRACTION).calculateOptimal(ctx);
+        assertEquals(before, collectionUsageThresholds());
+
+        new HybridSearchAlgorithm(new AOSolutionSpace(), HALF_HEAP_FRACTION).calculateOptimal(ctx);
+        assertEquals(before, collectionUsageThresholds());
+    }
+
+    private static Map<String, Long> collectionUsageThresholds() {
+        Map<String, Long> thresholds = new HashMap<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.isCollectionUsageThresholdSupported()) {
+                thresholds.put(pool.getName(), pool.getCollectionUsageThreshold());
+            }
+        }
+        return thresholds;
+    }
+}
@@ -0,0 +1,30 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class IterativeDeepeningAStarAlgorithmTest {
+
+    @Test
+    public void testOptimal() {
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors <= 4, 20, "CCR_1");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new IterativeDeepeningAStarAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new IterativeDeepeningAStarAlgorithm(new AOSolutionSpace()), testGraph.toContext());
+    }
+}
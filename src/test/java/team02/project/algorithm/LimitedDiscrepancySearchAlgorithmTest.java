@@ -0,0 +1,51 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.algorithm.solnspace.els.ELSSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class LimitedDiscrepancySearchAlgorithmTest {
+
+    // far more passes than it takes to search a 10 node graph without leaving anything out
+    private static final int MANY_DISCREPANCIES = 1000;
+
+    @Test
+    public void testOptimalAO() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new LimitedDiscrepancySearchAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testOptimalELS() {
+        // ELS takes much longer to search most of the other graphs
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 2, 6,
+                "OutTree-Unbalanced,Pipeline");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new LimitedDiscrepancySearchAlgorithm(new ELSSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testStopsOnceNothingIsLeftOut() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            var algorithm = new LimitedDiscrepancySearchAlgorithm(new AOSolutionSpace(), MANY_DISCREPANCIES);
+            SearchResult result = algorithm.calculate(ctx, Deadline.none());
+
+            assertTrue(testGraph.getName() + " not proven optimal", result.isOptimal());
+            assertOptimal(testGraph, ctx, result.getSchedule());
+            assertTrue(testGraph.getName() + " made " + algorithm.getPasses() + " passes",
+                    algorithm.getPasses() <= MANY_DISCREPANCIES);
+        }
+    }
+}
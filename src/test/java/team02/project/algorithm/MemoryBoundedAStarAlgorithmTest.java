@@ -0,0 +1,48 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertValid;
+
+public class MemoryBoundedAStarAlgorithmTest {
+
+    // enough for a path to a complete schedule and its siblings, but far less than the search would otherwise hold
+    private static final int SMALL_BUDGET = 60;
+
+    @Test
+    public void testSameFinishTimeAsBranchAndBoundWhenForgetting() {
+        long forgotten = 0;
+        for (var testGraph : new TestGraphLoader((nodes, processors) -> nodes == 10 && processors == 4, 8, "CCR_10")) {
+            var ctx = testGraph.toContext();
+            var algorithm = new MemoryBoundedAStarAlgorithm(new AOSolutionSpace(), SMALL_BUDGET);
+
+            Schedule schedule = algorithm.calculateOptimal(ctx);
+            Schedule expected = new SequentialBranchBoundAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx);
+
+            assertValid(ctx, schedule);
+            assertEquals(testGraph.getName(), expected.getFinishTime(), schedule.getFinishTime());
+            forgotten += algorithm.getNodesForgotten();
+        }
+
+        assertTrue("the budget never forced anything to be forgotten", forgotten > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroBudgetRejected() {
+        new MemoryBoundedAStarAlgorithm(new AOSolutionSpace(), 0);
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new MemoryBoundedAStarAlgorithm(new AOSolutionSpace(), SMALL_BUDGET), testGraph.toContext());
+    }
+}
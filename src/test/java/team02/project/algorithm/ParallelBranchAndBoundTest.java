@@ -0,0 +1,80 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class ParallelBranchAndBoundTest {
+
+    private static final int WORKERS = 4;
+    private static final int POOL_THREADS = 2;
+    private static final long TIMEOUT_MILLIS = 60000;
+    private static final long STOP_MILLIS = 5000;
+    private static final long SEED = 42;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(POOL_THREADS);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalOnPoolWithFewerThreadsThanWorkers() {
+        // the workers left waiting in the pool's queue must not stop the others from deciding the search is over
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new ParallelBranchAndBound(new AOSolutionSpace(), WORKERS, null,
+                    new PooledSearchExecutor(pool)).calculateOptimal(ctx));
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testCheckpointOnPoolWithFewerThreadsThanWorkers() throws IOException {
+        // checkpointing as often as possible, so the search keeps pausing for the workers which have started
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            var checkpointer = new Checkpointer(folder.newFile().toPath(), 0, false);
+            assertOptimal(testGraph, ctx, new ParallelBranchAndBound(new AOSolutionSpace(), WORKERS, checkpointer,
+                    new PooledSearchExecutor(pool)).calculateOptimal(ctx));
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalWhenRestartingAfterEveryExpansion() {
+        // every worker hands its work back after each partial solution it expands, so work is shared out constantly
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new ParallelBranchAndBound(new AOSolutionSpace(), WORKERS, null,
+                    new PooledSearchExecutor(pool), new Diversification(SEED, 1)).calculateOptimal(ctx));
+        }
+    }
+
+    @Test(timeout = STOP_MILLIS, expected = IllegalStateException.class)
+    public void testFailingWorkerStopsSearch() {
+        // the search takes far longer than the timeout if the other workers keep going
+        var ctx = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next().toContext();
+        var checkpointer = new Checkpointer(folder.getRoot().toPath().resolve("checkpoint"), 0, false) {
+            @Override
+            public void save(Checkpoint checkpoint) {
+                throw new UncheckedIOException(new IOException("no space left on device"));
+            }
+        };
+        new ParallelBranchAndBound(new AOSolutionSpace(), WORKERS, checkpointer).calculateOptimal(ctx);
+    }
+}
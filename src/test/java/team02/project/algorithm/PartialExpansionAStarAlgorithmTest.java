@@ -0,0 +1,58 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.algorithm.solnspace.els.ELSSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertTrue;
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class PartialExpansionAStarAlgorithmTest {
+
+    @Test
+    public void testOptimalAO() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new PartialExpansionAStarAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testOptimalELS() {
+        // ELS reaches states by more than one path, so this searches with the closed set. It takes much longer to
+        // search most of the other graphs
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors <= 4, 8,
+                "OutTree-Unbalanced,Pipeline");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx,
+                    new PartialExpansionAStarAlgorithm(new ELSSolutionSpace()).calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testOptimalWhenExpandingAgain() {
+        boolean expandedThreeTimes = false;
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            var algorithm = new PartialExpansionAStarAlgorithm(new AOSolutionSpace());
+
+            assertOptimal(testGraph, ctx, algorithm.calculateOptimal(ctx));
+            expandedThreeTimes |= algorithm.getMostExpansions() >= 3;
+        }
+
+        assertTrue("no partial solution was put back and expanded more than once", expandedThreeTimes);
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new PartialExpansionAStarAlgorithm(new AOSolutionSpace()), testGraph.toContext());
+    }
+}
@@ -0,0 +1,47 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertFalse;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+import static team02.project.algorithm.ScheduleAssert.assertValid;
+
+public class PipelinedBranchAndBoundTest {
+
+    private static final int ORDERING_THREADS = 3;
+    private static final long SEARCH_MILLIS = 300;
+    private static final long RETURN_MILLIS = 5000;
+
+    @Test
+    public void testOptimalWithQueueOfOne() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new PipelinedBranchAndBound(1, ORDERING_THREADS, 1).calculateOptimal(ctx));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testExpiredDeadlineReleasesWaitingProducer() throws InterruptedException {
+        // each ordering subproblem keeps the ordering thread busy for a long time, so the allocation thread soon waits
+        // on the full queue
+        var ctx = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next().toContext();
+        var deadline = Deadline.none();
+        SearchResult[] result = new SearchResult[1];
+        Thread caller = new Thread(() -> result[0] = new PipelinedBranchAndBound(1, 1, 1).calculate(ctx, deadline));
+
+        caller.start();
+        Thread.sleep(SEARCH_MILLIS);
+        deadline.expire();
+        caller.join(RETURN_MILLIS);
+
+        assertFalse("still searching after the deadline expired", caller.isAlive());
+        assertValid(ctx, result[0].getSchedule());
+        assertFalse("claimed to be optimal after stopping early", result[0].isOptimal());
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertFalse("left running: " + thread.getName(), thread.getName().startsWith("pipeline-"));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.benchmark.TestGraphLoader;
+
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class PortfolioAlgorithmTest {
+
+    @Test
+    public void testOptimal() {
+        for (var testGraph : new TestGraphLoader("/testPackages/2p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, PortfolioAlgorithm.standard().calculateOptimal(ctx));
+        }
+    }
+
+    @Test
+    public void testInterruptStopsAlgorithms() throws InterruptedException {
+        var testGraph = new TestGraphLoader("/testPackages/all21nodes.csv").iterator().next();
+        assertInterruptible(PortfolioAlgorithm.standard(), testGraph.toContext(), "portfolio-");
+    }
+}
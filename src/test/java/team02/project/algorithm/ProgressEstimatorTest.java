@@ -0,0 +1,55 @@
+package team02.project.algorithm;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProgressEstimatorTest {
+
+    private AlgorithmMonitor monitor;
+
+    @Before
+    public void setUp() {
+        monitor = new AlgorithmMonitor(null, 0, 0, 0);
+    }
+
+    @Test
+    public void testDescribeBeforeEstimate() {
+        assertEquals("Estimating...", ProgressEstimator.describe(monitor));
+    }
+
+    @Test
+    public void testDescribeFinished() {
+        monitor.setEstimatedTotalNodes(3200000);
+        monitor.setFinished(true);
+        assertEquals("Finished", ProgressEstimator.describe(monitor));
+    }
+
+    @Test
+    public void testDescribeTimeLeft() {
+        monitor.setEstimatedTotalNodes(3200000);
+        monitor.setFractionComplete(0.125);
+        monitor.setEstimatedRemainingMillis(70000);
+        assertEquals("12.5% of about 3.2 million partial schedules searched, about 1m 10s left",
+                ProgressEstimator.describe(monitor));
+    }
+
+    @Test
+    public void testDescribeDaysLeft() {
+        monitor.setEstimatedTotalNodes(450);
+        monitor.setFractionComplete(0.5);
+        monitor.setEstimatedRemainingMillis(90000000);
+        assertEquals("50.0% of about 450 partial schedules searched, about 1d 1h left",
+                ProgressEstimator.describe(monitor));
+    }
+
+    @Test
+    public void testDescribeTimeLeftUnknown() {
+        monitor.setEstimatedTotalNodes(2500000000L);
+        monitor.setFractionComplete(0.99);
+        monitor.setEstimatedRemainingMillis(AlgorithmMonitor.UNKNOWN_TIME);
+        assertEquals("99.0% of about 2.5 billion partial schedules searched, time left unknown",
+                ProgressEstimator.describe(monitor));
+    }
+}
@@ -0,0 +1,48 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import static org.junit.Assert.assertEquals;
+import static team02.project.algorithm.ScheduleAssert.assertInterruptible;
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class RecursiveBestFirstSearchAlgorithmTest {
+
+    @Test
+    public void testSameFinishTimeAsBranchAndBound() {
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors <= 4, 20, "CCR_1");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            Schedule schedule = new RecursiveBestFirstSearchAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx);
+            Schedule expected = new SequentialBranchBoundAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx);
+
+            assertOptimal(testGraph, ctx, schedule);
+            assertEquals(testGraph.getName(), expected.getFinishTime(), schedule.getFinishTime());
+        }
+    }
+
+    @Test
+    public void testListScheduleReturnedWhenAlreadyOptimal() {
+        // graphs whose list schedule finishes at the optimal time, so there is nothing better to find
+        var loader = new TestGraphLoader((nodes, processors) -> nodes == 10 && processors >= 8, 6,
+                "Fork_Join_Nodes_10_CCR_1.01,Join_Nodes_10_CCR_1.00,Random_Nodes_10_Density_0.40_CCR_10.00");
+        for (var testGraph : loader) {
+            var ctx = testGraph.toContext();
+            Schedule schedule = new RecursiveBestFirstSearchAlgorithm(new AOSolutionSpace()).calculateOptimal(ctx);
+
+            assertOptimal(testGraph, ctx, schedule);
+            assertEquals(testGraph.getName(), new TopologicalSortAlgorithm().calculateOptimal(ctx), schedule);
+        }
+    }
+
+    @Test
+    public void testInterruptReturnsSchedule() throws InterruptedException {
+        // takes far longer to search than the test waits
+        var testGraph = new TestGraphLoader((nodes, processors) -> nodes == 21 && processors == 2, 1, "Pipeline")
+                .iterator().next();
+        assertInterruptible(new RecursiveBestFirstSearchAlgorithm(new AOSolutionSpace()), testGraph.toContext());
+    }
+}
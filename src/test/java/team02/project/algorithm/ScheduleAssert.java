@@ -0,0 +1,106 @@
+package team02.project.algorithm;
+
+import team02.project.benchmark.TestGraphLoader.TestGraph;
+import team02.project.graph.Node;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Assertions about the schedules returned by {@link SchedulingAlgorithm}s, shared between the algorithm tests.
+ */
+final class ScheduleAssert {
+    private static final long SEARCH_MILLIS = 300;
+    private static final long RETURN_MILLIS = 5000;
+    private static final String CALLER_THREAD = "interrupted-caller";
+
+    private ScheduleAssert() {
+
+    }
+
+    /**
+     * Assert that every task is scheduled once on one of the processors, after its dependencies and their
+     * communication costs, without overlapping any other task on the same processor.
+     */
+    static void assertValid(SchedulingContext ctx, Schedule schedule) {
+        assertNotNull("no schedule", schedule);
+
+        Map<Node, ScheduledTask> byNode = new HashMap<>();
+        for(ScheduledTask task : schedule.getTasks()) {
+            assertTrue("task scheduled twice: " + task.getTask().getId(), byNode.put(task.getTask(), task) == null);
+            assertTrue("no such processor: " + task.getProcessorId(),
+                    task.getProcessorId() >= 0 && task.getProcessorId() < ctx.getProcessorCount());
+        }
+        assertEquals("tasks scheduled", ctx.getTaskGraph().getNodes().length, byNode.size());
+
+        for(ScheduledTask task : schedule.getTasks()) {
+            Node node = task.getTask();
+            for(int i = 0; i < node.getIncomingEdgeNodes().length; ++i) {
+                ScheduledTask dependency = byNode.get(node.getIncomingEdgeNodes()[i]);
+                int ready = dependency.getFinishTime()
+                        + (dependency.getProcessorId() == task.getProcessorId() ? 0 : node.getIncomingEdgeWeights()[i]);
+                assertTrue(node.getId() + " starts before its dependencies are ready", task.getStartTime() >= ready);
+            }
+
+            for(ScheduledTask other : schedule.getTasks()) {
+                if(other != task && other.getProcessorId() == task.getProcessorId()) {
+                    assertTrue(node.getId() + " overlaps " + other.getTask().getId(),
+                            other.getFinishTime() <= task.getStartTime()
+                                    || task.getFinishTime() <= other.getStartTime());
+                }
+            }
+        }
+    }
+
+    /**
+     * Assert that a schedule of a test graph is valid, and finishes at the known optimal time.
+     */
+    static void assertOptimal(TestGraph graph, SchedulingContext ctx, Schedule schedule) {
+        assertValid(ctx, schedule);
+        assertEquals(graph.getName() + " on " + graph.getNumProcessors() + " processors",
+                graph.getOptimal(), schedule.getFinishTime());
+    }
+
+    /**
+     * Assert that an algorithm which searches on the calling thread can be interrupted, as in
+     * {@link #assertInterruptible(SchedulingAlgorithm, SchedulingContext, String)}.
+     */
+    static void assertInterruptible(SchedulingAlgorithm algorithm, SchedulingContext ctx)
+            throws InterruptedException {
+        assertInterruptible(algorithm, ctx, CALLER_THREAD);
+    }
+
+    /**
+     * Run an algorithm on a thread of its own and interrupt it partway through. Assert that it returns a valid
+     * schedule promptly, leaves the thread interrupted, and leaves none of its search threads running. The graph must
+     * take the algorithm well over {@value #SEARCH_MILLIS}ms to search.
+     * @param threadPrefix the start of the names of the threads the algorithm searches with
+     */
+    static void assertInterruptible(SchedulingAlgorithm algorithm, SchedulingContext ctx, String threadPrefix)
+            throws InterruptedException {
+        Schedule[] schedule = new Schedule[1];
+        boolean[] leftInterrupted = new boolean[1];
+        Thread caller = new Thread(() -> {
+            schedule[0] = algorithm.calculateOptimal(ctx);
+            leftInterrupted[0] = Thread.currentThread().isInterrupted();
+        }, CALLER_THREAD);
+
+        caller.start();
+        Thread.sleep(SEARCH_MILLIS);
+        assertTrue("finished before it could be interrupted", caller.isAlive());
+        caller.interrupt();
+        caller.join(RETURN_MILLIS);
+
+        assertFalse("still searching after being interrupted", caller.isAlive());
+        assertValid(ctx, schedule[0]);
+        assertTrue("the interrupt was cleared", leftInterrupted[0]);
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            assertFalse("left running: " + thread.getName(), thread.getName().startsWith(threadPrefix));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package team02.project.algorithm;
+
+import org.junit.Test;
+import team02.project.algorithm.solnspace.StateKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StateTableTest {
+
+    // the smallest table has this many slots
+    private static final int MIN_CAPACITY = 16;
+
+    @Test
+    public void testAbsentKey() {
+        StateTable table = new StateTable(1);
+        assertEquals(StateTable.ABSENT, table.get(key(1)));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void testPutIfLower() {
+        StateTable table = new StateTable(1);
+
+        assertTrue(table.putIfLower(key(1), 10));
+        assertEquals(10, table.get(key(1)));
+
+        assertFalse("equal value stored", table.putIfLower(key(1), 10));
+        assertFalse("higher value stored", table.putIfLower(key(1), 11));
+        assertEquals(10, table.get(key(1)));
+
+        assertTrue(table.putIfLower(key(1), 9));
+        assertEquals(9, table.get(key(1)));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void testCollidingKeys() {
+        // keys which all start probing from the same slot of the smallest table
+        List<StateKey> colliding = new ArrayList<>();
+        int slot = key(0).hashCode() & (MIN_CAPACITY - 1);
+        for (long i = 0; colliding.size() < 4; ++i) {
+            if ((key(i).hashCode() & (MIN_CAPACITY - 1)) == slot) {
+                colliding.add(key(i));
+            }
+        }
+
+        StateTable table = new StateTable(1);
+        for (int i = 0; i < colliding.size(); ++i) {
+            assertTrue(table.putIfLower(colliding.get(i), 100 + i));
+        }
+
+        assertTrue(table.putIfLower(colliding.get(1), 50));
+        assertFalse(table.putIfLower(colliding.get(2), 200));
+        assertEquals(100, table.get(colliding.get(0)));
+        assertEquals(50, table.get(colliding.get(1)));
+        assertEquals(102, table.get(colliding.get(2)));
+        assertEquals(103, table.get(colliding.get(3)));
+        assertEquals(colliding.size(), table.size());
+    }
+
+    @Test
+    public void testGrowsPastHalfFull() {
+        int count = MIN_CAPACITY * 64;
+        StateTable table = new StateTable(1);
+        for (int i = 0; i < count; ++i) {
+            assertTrue(table.putIfLower(key(i), i));
+        }
+
+        assertEquals(count, table.size());
+        for (int i = 0; i < count; ++i) {
+            assertEquals(i, table.get(key(i)));
+        }
+        assertEquals(StateTable.ABSENT, table.get(key(count)));
+    }
+
+    private static StateKey key(long state) {
+        return new StateKey(new long[]{state, ~state});
+    }
+}
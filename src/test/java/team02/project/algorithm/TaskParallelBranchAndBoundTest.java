@@ -0,0 +1,51 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.After;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static team02.project.algorithm.ScheduleAssert.assertOptimal;
+
+public class TaskParallelBranchAndBoundTest {
+
+    private static final int THREADS = 3;
+    private static final int SUBTREES = 50;
+    private static final long TIMEOUT_MILLIS = 60000;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalOnOwnPool() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new TaskParallelBranchAndBound(new AOSolutionSpace(), THREADS)
+                    .calculateOptimal(ctx));
+        }
+    }
+
+    @Test(timeout = TIMEOUT_MILLIS)
+    public void testOptimalOnSharedPool() {
+        // the same pool runs the subtrees of every search in turn
+        var executor = new PooledSearchExecutor(pool);
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            assertOptimal(testGraph, ctx, new TaskParallelBranchAndBound(new AOSolutionSpace(), SUBTREES, executor)
+                    .calculateOptimal(ctx));
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testExecutorRequired() {
+        new TaskParallelBranchAndBound(new AOSolutionSpace(), SUBTREES, null);
+    }
+}
@@ -0,0 +1,83 @@
+package team02.project.algorithm;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
+import team02.project.graph.GraphBuilderImpl;
+
+import static org.junit.Assert.assertEquals;
+
+public class TreeSizeEstimatorTest {
+
+    private static final long SEED = 42;
+    private static final int PROBES = 20000;
+    private static final double TOLERANCE = 0.05;
+
+    @Test
+    public void testEstimateCloseToExactSize() {
+        var root = new AOSolutionSpace().getRoot(forkJoinContext());
+        long exact = countNodes(root);
+
+        var estimator = new TreeSizeEstimator(root, SEED);
+        for (int i = 0; i < PROBES; ++i) {
+            estimator.probe(Integer.MAX_VALUE);
+        }
+
+        assertEquals(PROBES, estimator.getProbes());
+        assertEquals(exact, estimator.getEstimate(), exact * TOLERANCE);
+    }
+
+    @Test
+    public void testSameSeedSameEstimate() {
+        var ctx = forkJoinContext();
+        var first = new TreeSizeEstimator(new AOSolutionSpace().getRoot(ctx), SEED);
+        var second = new TreeSizeEstimator(new AOSolutionSpace().getRoot(ctx), SEED);
+        for (int i = 0; i < PROBES; ++i) {
+            first.probe(Integer.MAX_VALUE);
+            second.probe(Integer.MAX_VALUE);
+        }
+
+        assertEquals(first.getEstimate(), second.getEstimate(), 0);
+    }
+
+    @Test
+    public void testProbesResetWhenBoundChanges() {
+        var estimator = new TreeSizeEstimator(new AOSolutionSpace().getRoot(forkJoinContext()), SEED);
+        assertEquals(0, estimator.getEstimate(), 0);
+        for (int i = 0; i < PROBES; ++i) {
+            estimator.probe(Integer.MAX_VALUE);
+        }
+
+        // nothing beats a bound of 0, so only the root is left, and the paths sampled before don't count
+        estimator.probe(0);
+        assertEquals(1, estimator.getProbes());
+        assertEquals(1, estimator.getEstimate(), 0);
+    }
+
+    /**
+     * @return a fork and join of four tasks on two processors, small enough to enumerate every partial solution
+     */
+    private static SchedulingContext forkJoinContext() {
+        var builder = new GraphBuilderImpl();
+        builder.addNode("a", 2);
+        builder.addNode("b", 3);
+        builder.addNode("c", 4);
+        builder.addNode("d", 2);
+        builder.addEdge("a", "b", 1);
+        builder.addEdge("a", "c", 2);
+        builder.addEdge("b", "d", 1);
+        builder.addEdge("c", "d", 3);
+        return new SchedulingContext(builder.build(), 2);
+    }
+
+    private static long countNodes(PartialSolution solution) {
+        long nodes = 1;
+        if (!solution.isComplete()) {
+            for (var child : solution.expand(Integer.MAX_VALUE)) {
+                nodes += countNodes(child);
+            }
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,58 @@
+package team02.project.algorithm.solnspace.ao;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AOPartialSolutionCodecTest {
+
+    @Test
+    public void testDecodedSameAsEncodedAtEveryDepth() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            var codec = new AOPartialSolutionCodec(ctx);
+            var buffer = ByteBuffer.allocate(codec.getMaxEncodedLength());
+
+            assertTrue(testGraph.getName(), walkToComplete(codec, buffer, new AOSolutionSpace().getRoot(ctx)));
+        }
+    }
+
+    /**
+     * Follow a path through the allocations and orderings to a complete solution, checking every partial solution
+     * visited on the way.
+     * @return true if a complete solution was reached
+     */
+    private static boolean walkToComplete(AOPartialSolutionCodec codec, ByteBuffer buffer, PartialSolution current) {
+        assertRoundTrip(codec, buffer, current);
+        if (current.isComplete()) {
+            return true;
+        }
+
+        for (var child : current.expand()) {
+            if (walkToComplete(codec, buffer, child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertRoundTrip(AOPartialSolutionCodec codec, ByteBuffer buffer, PartialSolution solution) {
+        buffer.clear();
+        codec.encode(solution, buffer);
+        assertTrue(buffer.position() <= codec.getMaxEncodedLength());
+        buffer.flip();
+        PartialSolution decoded = codec.decode(buffer);
+
+        assertEquals(solution.getClass(), decoded.getClass());
+        assertEquals(solution.getStateKey(), decoded.getStateKey());
+        assertEquals(solution.getEstimatedFinishTime(), decoded.getEstimatedFinishTime());
+        assertFalse("bytes left over", buffer.hasRemaining());
+    }
+}
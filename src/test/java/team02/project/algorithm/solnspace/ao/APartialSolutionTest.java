@@ -0,0 +1,61 @@
+package team02.project.algorithm.solnspace.ao;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.algorithm.solnspace.StateKey;
+import team02.project.benchmark.TestGraphLoader;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class APartialSolutionTest {
+
+    private static final int ALLOCATIONS_PER_GRAPH = 500;
+
+    @Test
+    public void testBoundedExpandSameAsFilteredExpand() {
+        for (var testGraph : new TestGraphLoader("/testPackages/4p10nodes.csv")) {
+            var ctx = testGraph.toContext();
+            Deque<PartialSolution> allocations = new ArrayDeque<>();
+            allocations.push(new AOSolutionSpace().getRoot(ctx));
+
+            // depth first, so that complete allocations and the orderings they expand into are checked too
+            for (int visited = 0; visited < ALLOCATIONS_PER_GRAPH && !allocations.isEmpty(); ++visited) {
+                var allocation = allocations.pop();
+                var children = allocation.expand();
+
+                for (var child : children) {
+                    assertBoundedExpand(testGraph.getName(), allocation, children, child.getEstimatedFinishTime());
+                    assertBoundedExpand(testGraph.getName(), allocation, children, child.getEstimatedFinishTime() + 1);
+                    if (child instanceof APartialSolution) {
+                        allocations.push(child);
+                    }
+                }
+                assertBoundedExpand(testGraph.getName(), allocation, children, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+    private static void assertBoundedExpand(String name, PartialSolution allocation,
+                                            Collection<PartialSolution> children, int bound) {
+        Map<StateKey, Integer> expected = new HashMap<>();
+        for (var child : children) {
+            if (child.getEstimatedFinishTime() < bound) {
+                expected.put(child.getStateKey(), child.getEstimatedFinishTime());
+            }
+        }
+
+        Map<StateKey, Integer> bounded = new HashMap<>();
+        for (var child : allocation.expand(bound)) {
+            bounded.put(child.getStateKey(), child.getEstimatedFinishTime());
+        }
+
+        assertEquals(name + " below " + bound, expected, bounded);
+    }
+}
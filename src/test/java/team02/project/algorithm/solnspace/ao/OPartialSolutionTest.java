@@ -0,0 +1,60 @@
+package team02.project.algorithm.solnspace.ao;
+
+import lombok.var;
+import org.junit.Test;
+import team02.project.algorithm.Schedule;
+import team02.project.algorithm.ScheduledTask;
+import team02.project.algorithm.SchedulingContext;
+import team02.project.algorithm.solnspace.PartialSolution;
+import team02.project.graph.GraphBuilderImpl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OPartialSolutionTest {
+
+    // more tasks than there are bits in an int, so task indices past 31 are used
+    private static final int CHAIN_LENGTH = 40;
+    private static final int PROCESSORS = 2;
+
+    @Test(timeout = 10000)
+    public void testChainLongerThanIntBits() {
+        var builder = new GraphBuilderImpl();
+        for (int i = 0; i < CHAIN_LENGTH; ++i) {
+            builder.addNode(Integer.toString(i), 1 + i % 3);
+            if (i > 0) {
+                builder.addEdge(Integer.toString(i - 1), Integer.toString(i), 2);
+            }
+        }
+        var ctx = new SchedulingContext(builder.build(), PROCESSORS);
+
+        // any path through the solution space ends in a complete schedule
+        PartialSolution current = new AOSolutionSpace().getRoot(ctx);
+        while (!current.isComplete()) {
+            var children = current.expand();
+            assertFalse("dead end before the schedule was complete", children.isEmpty());
+            current = children.iterator().next();
+        }
+
+        assertChainScheduled(ctx, current.makeComplete());
+    }
+
+    private static void assertChainScheduled(SchedulingContext ctx, Schedule schedule) {
+        Map<String, ScheduledTask> byId = new HashMap<>();
+        for (var task : schedule.getTasks()) {
+            assertTrue("task scheduled twice: " + task.getTask().getId(), byId.put(task.getTask().getId(), task) == null);
+        }
+        assertEquals(ctx.getTaskGraph().getNodes().length, byId.size());
+
+        for (int i = 1; i < CHAIN_LENGTH; ++i) {
+            var before = byId.get(Integer.toString(i - 1));
+            var after = byId.get(Integer.toString(i));
+            int ready = before.getFinishTime() + (before.getProcessorId() == after.getProcessorId() ? 0 : 2);
+            assertTrue(i + " starts before " + (i - 1) + " is ready", after.getStartTime() >= ready);
+        }
+    }
+}
@@ -3,13 +3,23 @@ package team02.project.benchmark;
 import lombok.var;
 import team02.project.algorithm.AStarAlgorithm;
 import team02.project.algorithm.ParallelBranchAndBound;
+import team02.project.algorithm.PooledSearchExecutor;
+import team02.project.algorithm.SchedulingAlgorithm;
 import team02.project.algorithm.SequentialBranchBoundAlgorithm;
+import team02.project.algorithm.TaskParallelBranchAndBound;
 import team02.project.algorithm.solnspace.ao.AOSolutionSpace;
 import team02.project.benchmark.AlgorithmBenchmark.Result;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 public class Runner {
+    private static final int SUBTREES_PER_THREAD = 64;
+
     public static void main(String[] args) {
 
         System.out.println("Starting...");
@@ -17,16 +27,32 @@ public class Runner {
 //        var loader = new TestGraphLoader((nodes, procs) -> true, 1, "Nodes_25_2p");
         var loader = new TestGraphLoader("/testPackages/all16nodes.csv");
 
-        var benchmark = new AlgorithmBenchmark(() -> new ParallelBranchAndBound(new AOSolutionSpace()));
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        Map<String, Supplier<SchedulingAlgorithm>> algorithms = new LinkedHashMap<>();
+        algorithms.put("ParallelBranchAndBound", () -> new ParallelBranchAndBound(new AOSolutionSpace()));
+        algorithms.put("ParallelBranchAndBound on a shared pool", () -> new ParallelBranchAndBound(
+                new AOSolutionSpace(), threads, null, new PooledSearchExecutor(pool)));
+        algorithms.put("TaskParallelBranchAndBound", () -> new TaskParallelBranchAndBound(new AOSolutionSpace()));
+        algorithms.put("TaskParallelBranchAndBound on a shared pool", () -> new TaskParallelBranchAndBound(
+                new AOSolutionSpace(), SUBTREES_PER_THREAD * threads, new PooledSearchExecutor(pool)));
 
-        int total = 0;
-        for (var testGraph : loader) {
-            Result result = benchmark.run(testGraph.getFile(), testGraph.getNumProcessors());
-            total += result.getTimeTaken();
-            System.out.print(testGraph.getName());
-            print(testGraph.getOptimal(), result.getScheduleLength(), result.getTimeTaken());
+        for (var algorithm : algorithms.entrySet()) {
+            System.out.println(algorithm.getKey());
+            var benchmark = new AlgorithmBenchmark(algorithm.getValue());
+
+            int total = 0;
+            for (var testGraph : loader) {
+                Result result = benchmark.run(testGraph.getFile(), testGraph.getNumProcessors());
+                total += result.getTimeTaken();
+                System.out.print(testGraph.getName());
+                print(testGraph.getOptimal(), result.getScheduleLength(), result.getTimeTaken());
+            }
+            System.out.println("Total time: " + total + "ms");
         }
-        System.out.println("Total time: " + total + "ms");
+
+        pool.shutdown();
     }
 
     private static void print(int expectedLength, int actualLength, long timeTaken) {
@@ -2,6 +2,9 @@ package team02.project.benchmark;
 
 import lombok.Value;
 import lombok.var;
+import team02.project.algorithm.SchedulingContext;
+import team02.project.graph.GraphBuilderImpl;
+import team02.project.io.GraphReader;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -116,5 +119,15 @@ public class TestGraphLoader implements Iterable<TestGraphLoader.TestGraph> {
         int numNodes;
         int numProcessors;
         int optimal;
+
+        /**
+         * Read the graph from its dotfile
+         * @return The {@link SchedulingContext} of scheduling the graph on its number of processors
+         */
+        public SchedulingContext toContext() {
+            var graphBuilder = new GraphBuilderImpl();
+            GraphReader.readInto(file, graphBuilder);
+            return new SchedulingContext(graphBuilder.build(), numProcessors);
+        }
     }
 }
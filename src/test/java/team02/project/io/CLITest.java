@@ -26,5 +26,171 @@ public class CLITest {
         assertEquals(config.numberOfParallelCores(), 1);
         assertEquals(config.isVisualize(), false);
         assertEquals(config.outputDOTFile(), "test-output.dot");
+        assertEquals(config.timeLimitSeconds(), 0);
+        assertEquals(config.beamWidth(), 0);
+        assertEquals(config.coordinatorPort(), 0);
+        assertEquals(config.checkpointFile(), "");
+        assertEquals(config.isResume(), false);
+        assertEquals(config.isDeterministic(), false);
+        assertEquals(config.isHybrid(), false);
+        assertEquals(config.isPortfolio(), false);
+        assertEquals(config.seed(), -1);
+        assertEquals(config.restartBudget(), 0);
+        assertEquals(config.isEstimate(), false);
+        assertEquals(config.gap(), -1, 0);
+    }
+
+    @Test
+    public void testConfigWithTimeLimit() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-t", "30"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.timeLimitSeconds(), 30);
+    }
+
+    @Test
+    public void testConfigWithBeamWidth() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-b", "100"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.beamWidth(), 100);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testZeroBeamWidthRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-b", "0"});
+    }
+
+    @Test
+    public void testConfigWithCoordinatorPort() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-d", "7306"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.coordinatorPort(), 7306);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testOutOfRangeCoordinatorPortRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-d", "70000"});
+    }
+
+    @Test
+    public void testConfigWithResume() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-c", "search.checkpoint", "--resume"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.checkpointFile(), "search.checkpoint");
+        assertEquals(config.isResume(), true);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testResumeWithoutCheckpointRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "--resume"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testCheckpointWithBeamRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-b", "100", "-c", "search.checkpoint"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testCheckpointWithDeterministicRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-p", "4", "--deterministic", "-c", "search.checkpoint"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testCheckpointWithPortfolioRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "--portfolio", "-c", "search.checkpoint"});
+    }
+
+    @Test
+    public void testDeterministicWithEstimate() throws CLIException {
+        CLIConfig config = parser.parse(new String[]{"test.dot", "4", "-p", "4", "--deterministic", "-e"});
+        assertEquals(config.isEstimate(), true);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testEstimateWithHybridRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "--hybrid", "-e"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testEstimateWithCoordinatorRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-d", "7306", "-e"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testSeedWithoutParallelRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "--seed", "42"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testSeedWithDeterministicRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-p", "4", "--deterministic", "--seed", "42"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testSeedWithGapRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-p", "4", "-g", "0.05", "--seed", "42"});
+    }
+
+    @Test
+    public void testConfigWithDeterministic() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-p", "4", "--deterministic"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.numberOfParallelCores(), 4);
+        assertEquals(config.isDeterministic(), true);
+    }
+
+    @Test
+    public void testConfigWithHybrid() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "--hybrid"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.isHybrid(), true);
+    }
+
+    @Test
+    public void testConfigWithPortfolio() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "--portfolio"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.isPortfolio(), true);
+    }
+
+    @Test
+    public void testConfigWithSeedAndRestart() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-p", "4", "--seed", "42", "--restart", "100000"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.seed(), 42);
+        assertEquals(config.restartBudget(), 100000);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testRestartWithoutSeedRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-p", "4", "--restart", "100000"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testNegativeSeedRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-p", "4", "--seed", "-1"});
+    }
+
+    @Test
+    public void testConfigWithEstimate() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "--estimate"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.isEstimate(), true);
+    }
+
+    @Test
+    public void testConfigWithGap() throws CLIException {
+        String[] args = new String[]{"test.dot", "4", "-g", "0.05"};
+        CLIConfig config = parser.parse(args);
+        assertEquals(config.gap(), 0.05, 0);
+    }
+
+    @Test(expected = CLIException.class)
+    public void testNegativeGapRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-g", "-0.05"});
+    }
+
+    @Test(expected = CLIException.class)
+    public void testNegativeTimeLimitRejected() throws CLIException {
+        parser.parse(new String[]{"test.dot", "4", "-t", "-5"});
     }
 }